@@ -0,0 +1,42 @@
+package com.example.simpleshop.config;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 RateLimiter 오버헤드 (Tomcat 기본 200 스레드 대신 16 스레드로 경합 재현).
+ * sameKey: 한 클라이언트가 모든 스레드에서 몰아치는 최악의 CAS 경합, manyKeys: 일반적인 분산 트래픽.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(16)
+public class RateLimiterBenchmark {
+
+    private static final int KEYS = 10_000;
+
+    private RateLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        // 거의 항상 허용되도록 넉넉한 한도 (거절 경로보다 CAS 성공 경로가 비쌈)
+        limiter = new RateLimiter(1_000_000, 1_000_000_000, KEYS * 2, TimeUnit.MINUTES.toNanos(10));
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "ip:10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public long sameKey() {
+        return limiter.tryAcquire("ip:10.0.0.1", System.nanoTime());
+    }
+
+    @Benchmark
+    public long manyKeys() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEYS)], System.nanoTime());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.simpleshop.config;
+
+import com.example.simpleshop.domain.product.BenchmarkFixtures;
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.domain.user.UserRepository;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 1건당 SessionAuthenticationFilter 오버헤드.
+ * SecurityContextHolderFilter 처럼 요청마다 세션에서 SecurityContext 를 복원한 뒤 필터를 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SessionAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private SessionAuthenticationFilter filter;
+    private HttpSessionSecurityContextRepository contextRepository;
+    private MockHttpSession authenticatedSession;
+
+    @Setup
+    public void setUp() throws Exception {
+        User user = BenchmarkFixtures.user(1L);
+        // DB 대신 고정 사용자를 돌려주는 리포지토리
+        UserRepository userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> "findById".equals(method.getName()) ? Optional.of(user) : null);
+
+        filter = new SessionAuthenticationFilter(userRepository, List.of());
+        contextRepository = new HttpSessionSecurityContextRepository();
+
+        authenticatedSession = new MockHttpSession();
+        authenticatedSession.setAttribute("USER_ID", 1L);
+        perform(authenticatedSession); // 세션에 SecurityContext 저장
+    }
+
+    @Benchmark
+    public Object authenticatedSession() throws Exception {
+        return perform(authenticatedSession);
+    }
+
+    @Benchmark
+    public Object firstRequestOfSession() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("USER_ID", 1L);
+        return perform(session);
+    }
+
+    private Object perform(MockHttpSession session) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.setServletPath("/api/products");
+        request.setSession(session);
+
+        SecurityContextHolder.setContext(contextRepository.loadDeferredContext(request).get());
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
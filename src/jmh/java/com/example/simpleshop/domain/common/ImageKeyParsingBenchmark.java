@@ -0,0 +1,36 @@
+package com.example.simpleshop.domain.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 URL -> S3 키 변환 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ImageKeyParsingBenchmark {
+
+    private ImageService imageService;
+    private String imageUrl;
+
+    @Setup
+    public void setUp() {
+        // 키 변환만 측정하므로 S3Client, 참조 수 관리는 사용하지 않음
+        imageService = new ImageService(new S3ImageStore(null, "simpleshop-s3-bucket", "ap-northeast-2"),
+                null, 1, new SimpleMeterRegistry());
+        imageUrl = imageService.toUrl("9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.jpg");
+    }
+
+    @TearDown
+    public void tearDown() {
+        imageService.shutdown();
+    }
+
+    @Benchmark
+    public String toKey() {
+        return imageService.toKey(imageUrl);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.domain.user.User;
+
+import java.lang.reflect.Field;
+
+/**
+ * 벤치마크용 엔티티 생성 도우미
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(long id) {
+        User user = User.builder()
+                .email("bench" + id + "@example.com")
+                .password("{noop}password123")
+                .nickname("bench" + id)
+                .build();
+        setId(user, id);
+        return user;
+    }
+
+    public static Product product(long id, User writer, int imageCount) {
+        Product product = Product.builder()
+                .name("벤치마크 상품 " + id)
+                .description("JMH 측정을 위한 상품 설명입니다. product " + id)
+                .price(1000 + (int) (id % 100_000))
+                .writer(writer)
+                .build();
+        setId(product, id);
+
+        for (int order = 0; order < imageCount; order++) {
+            ProductImage image = ProductImage.builder()
+                    .imageUrl("https://simpleshop-s3-bucket.s3.ap-northeast-2.amazonaws.com/" + id + "_" + order + ".jpg")
+                    .imageOrder(order)
+                    .product(product)
+                    .build();
+            setId(image, id * 100 + order);
+            product.getImages().add(image);
+        }
+        return product;
+    }
+
+    private static void setId(Object entity, long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.SimpleshopApplication;
+import com.example.simpleshop.dto.product.ProductBulkResponse;
+import com.example.simpleshop.dto.product.ProductRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 단건 등록(POST /api/products 반복)과 일괄 등록의 초당 저장 건수를 비교한다.
+ * 결과 단위 ops/s 가 곧 rows/sec 이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ProductBulkBenchmark.ROWS)
+public class ProductBulkBenchmark {
+
+    static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private ProductBulkService productBulkService;
+    private ProductRepository productRepository;
+    private List<ProductRequest> requests;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SimpleshopApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:jmh-bulk;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "logging.level.root=WARN")
+                .run();
+        productService = context.getBean(ProductService.class);
+        productBulkService = context.getBean(ProductBulkService.class);
+        productRepository = context.getBean(ProductRepository.class);
+        requests = IntStream.range(0, ROWS)
+                .mapToObj(i -> new ProductRequest("벤치마크 상품 " + i, "JMH 측정을 위한 상품 설명입니다.", 1000 + i))
+                .toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() {
+        productRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void singleItem() {
+        for (ProductRequest request : requests) {
+            productService.create(request);
+        }
+    }
+
+    @Benchmark
+    public ProductBulkResponse bulk() {
+        return productBulkService.createAll(requests);
+    }
+}
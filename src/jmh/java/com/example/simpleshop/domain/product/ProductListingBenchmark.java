@@ -0,0 +1,110 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.SimpleshopApplication;
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.domain.user.UserRepository;
+import com.example.simpleshop.dto.common.CursorPage;
+import com.example.simpleshop.dto.product.ProductResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2 에 상품을 채운 뒤 ProductService 목록 조회(offset / cursor) 를 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductListingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000"})
+    private int catalogSize;
+
+    @Param({"latest", "priceAsc"})
+    private String sortBy;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private int deepPage;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SimpleshopApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.jpa.properties.hibernate.use_sql_comments=false",
+                        "logging.level.root=WARN")
+                .run();
+        productService = context.getBean(ProductService.class);
+        seed(context.getBean(ProductRepository.class), context.getBean(UserRepository.class));
+
+        deepPage = catalogSize / PAGE_SIZE - 1;
+
+        // 마지막 근처 페이지의 cursor 를 미리 구해 둠
+        CursorPage<ProductResponse> page = productService.findAllByCursor(null, PAGE_SIZE, sortBy);
+        for (int i = 1; i < deepPage && page.hasNext(); i++) {
+            page = productService.findAllByCursor(page.nextCursor(), PAGE_SIZE, sortBy);
+        }
+        deepCursor = page.nextCursor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ProductResponse> offsetFirstPage() {
+        return productService.findAll(PageRequest.of(0, PAGE_SIZE), sortBy);
+    }
+
+    @Benchmark
+    public Page<ProductResponse> offsetDeepPage() {
+        return productService.findAll(PageRequest.of(deepPage, PAGE_SIZE), sortBy);
+    }
+
+    @Benchmark
+    public CursorPage<ProductResponse> cursorDeepPage() {
+        return productService.findAllByCursor(deepCursor, PAGE_SIZE, sortBy);
+    }
+
+    private void seed(ProductRepository productRepository, UserRepository userRepository) {
+        User writer = userRepository.findByEmail("alice@example.com").orElseThrow();
+
+        List<Product> batch = new ArrayList<>();
+        for (int i = 0; i < catalogSize; i++) {
+            Product product = Product.builder()
+                    .name("벤치마크 상품 " + i)
+                    .description("JMH 측정을 위한 상품 설명입니다.")
+                    .price(1000 + (i * 7919) % 100_000)
+                    .writer(writer)
+                    .build();
+            for (int order = 0; order < 3; order++) {
+                product.getImages().add(ProductImage.builder()
+                        .imageUrl("https://example.com/" + i + "_" + order + ".jpg")
+                        .imageOrder(order)
+                        .product(product)
+                        .build());
+            }
+            batch.add(product);
+
+            if (batch.size() == 1000) {
+                productRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        productRepository.saveAll(batch);
+    }
+}
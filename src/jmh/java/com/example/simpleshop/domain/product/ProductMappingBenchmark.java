@@ -0,0 +1,32 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.dto.product.ProductResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProductService.toDto (엔티티 -> 응답 DTO) 매핑 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductMappingBenchmark {
+
+    @Param({"0", "3", "10"})
+    private int imageCount;
+
+    private Product product;
+
+    @Setup
+    public void setUp() {
+        User writer = BenchmarkFixtures.user(1L);
+        product = BenchmarkFixtures.product(1L, writer, imageCount);
+    }
+
+    @Benchmark
+    public ProductResponse toDto() {
+        return ProductService.toDto(product);
+    }
+}
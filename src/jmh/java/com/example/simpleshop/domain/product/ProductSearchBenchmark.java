@@ -0,0 +1,55 @@
+package com.example.simpleshop.domain.product;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100만 건 상품 역색인에서의 검색 지연 시간
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class ProductSearchBenchmark {
+
+    private static final String[] KOREAN = {
+            "고양이", "강아지", "인형", "쿠션", "머그컵", "텀블러", "가방", "지갑", "노트", "볼펜",
+            "무선", "충전기", "케이블", "이어폰", "스피커", "키보드", "마우스", "모니터", "받침대", "조명"
+    };
+    private static final String[] ENGLISH = {
+            "cat", "dog", "doll", "cushion", "mug", "tumbler", "bag", "wallet", "note", "pen",
+            "wireless", "charger", "cable", "earphone", "speaker", "keyboard", "mouse", "monitor", "stand", "lamp"
+    };
+
+    @Param({"1000000"})
+    private int catalogSize;
+
+    @Param({"고양이 인형", "wireless mouse", "충전기"})
+    private String query;
+
+    private ProductSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new ProductSearchIndex(null);
+        Random random = new Random(42);
+        for (long id = 1; id <= catalogSize; id++) {
+            String name = word(random, KOREAN) + " " + word(random, KOREAN) + " " + word(random, ENGLISH);
+            String description = word(random, KOREAN) + word(random, KOREAN) + " 상품입니다. "
+                    + word(random, ENGLISH) + " " + word(random, ENGLISH) + " " + id;
+            index.index(new ProductSnapshot(id, name, description, 1000 + random.nextInt(100_000)));
+        }
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(query, 20);
+    }
+
+    private static String word(Random random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.simpleshop.dto.common;
+
+import com.example.simpleshop.dto.product.ProductImageResponse;
+import com.example.simpleshop.dto.product.ProductResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 ApiResponse<Page<ProductResponse>> 의 Jackson 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<Page<ProductResponse>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<ProductResponse> content = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            List<ProductImageResponse> images = new ArrayList<>();
+            for (int order = 0; order < 3; order++) {
+                images.add(ProductImageResponse.builder()
+                        .id(id * 100 + order)
+                        .url("https://simpleshop-s3-bucket.s3.ap-northeast-2.amazonaws.com/" + id + "_" + order + ".jpg")
+                        .order(order)
+                        .build());
+            }
+            content.add(ProductResponse.builder()
+                    .id(id)
+                    .name("벤치마크 상품 " + id)
+                    .description("JMH 측정을 위한 상품 설명입니다.")
+                    .price(1000 + (int) id)
+                    .images(images)
+                    .writerId(1L)
+                    .build());
+        }
+        response = ApiResponse.success(new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
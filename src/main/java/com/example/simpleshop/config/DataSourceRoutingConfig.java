@@ -0,0 +1,81 @@
+package com.example.simpleshop.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * primary / replica 커넥션 풀과 읽기/쓰기 라우팅.
+ * 두 풀이 각각 빈으로 등록되므로 hikaricp.connections.* 메트릭이 pool 태그(primary, replica)별로 노출된다.
+ * open-in-view 가 켜져 있으면 요청 전체가 처음 고른 커넥션 하나를 쓰게 되므로 (읽기 후 쓰기가 replica 로 감) 함께 쓸 수 없다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("app.datasource.primary")
+    public HikariConfig primaryHikariConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    public HikariConfig replicaHikariConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(@Qualifier("primaryHikariConfig") HikariConfig config) {
+        return pool(config, "primary");
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(@Qualifier("replicaHikariConfig") HikariConfig config) {
+        config.setReadOnly(true);
+        return pool(config, "replica");
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${app.datasource.routing.read-your-writes-window:5s}") Duration readYourWritesWindow,
+            @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException(
+                    "app.datasource.routing.enabled=true 이면 spring.jpa.open-in-view=false 로 설정해야 합니다.");
+        }
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(new ReadYourWritesWindow(readYourWritesWindow));
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        return routing;
+    }
+
+    // JPA, JdbcTemplate 등이 사용하는 DataSource. 첫 SQL 실행 시점(readOnly 가 정해진 뒤)에 풀을 고른다
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private static HikariDataSource pool(HikariConfig config, String defaultPoolName) {
+        if (config.getPoolName() == null) {
+            config.setPoolName(defaultPoolName);
+        }
+        return new HikariDataSource(config);
+    }
+}
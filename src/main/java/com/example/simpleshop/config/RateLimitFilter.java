@@ -0,0 +1,181 @@
+package com.example.simpleshop.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 경로 그룹별 요청 제한. 로그인 사용자는 사용자 ID, 세션이 있으면 세션 ID, 그 외에는 IP(IPv6 는 /64) 기준으로 센다.
+ * 한도를 넘으면 429 + Retry-After 로 바로 응답한다.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private final boolean enabled;
+    private final List<RouteGroup> groups;
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        this.enabled = properties.enabled();
+        long idleNanos = properties.idleTimeout().toNanos();
+        this.groups = properties.groups().stream()
+                .map(group -> new RouteGroup(group, properties.maxKeys(), idleNanos))
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RouteGroup group = enabled ? match(request) : null;
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = group.limiter.tryAcquire(clientKey(request), System.nanoTime());
+        if (waitNanos == 0) {
+            group.allowed.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        group.rejected.increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(429);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("""
+                {"error":"Too Many Requests","message":"요청이 너무 많습니다. %d초 후 다시 시도해 주세요."}"""
+                .formatted(retryAfterSeconds));
+    }
+
+    // 오래 요청이 없던 키 정리
+    @Scheduled(fixedDelayString = "${rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        for (RouteGroup group : groups) {
+            int evicted = group.limiter.evictIdle(now);
+            if (evicted > 0) {
+                log.debug("rate limit [{}] idle 키 {}개 정리", group.name, evicted);
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RouteGroup group : groups) {
+            FunctionCounter.builder("rate.limit.requests", group.allowed, LongAdder::doubleValue)
+                    .tag("group", group.name)
+                    .tag("result", "allowed")
+                    .register(registry);
+            FunctionCounter.builder("rate.limit.requests", group.rejected, LongAdder::doubleValue)
+                    .tag("group", group.name)
+                    .tag("result", "rejected")
+                    .register(registry);
+            Gauge.builder("rate.limit.keys", group.limiter, RateLimiter::size)
+                    .tag("group", group.name)
+                    .register(registry);
+        }
+    }
+
+    private RouteGroup match(HttpServletRequest request) {
+        PathContainer path = null;
+        for (RouteGroup group : groups) {
+            if (!group.methods.isEmpty() && !group.methods.contains(request.getMethod())) {
+                continue;
+            }
+            if (path == null) {
+                path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+            }
+            for (PathPattern pattern : group.patterns) {
+                if (pattern.matches(path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            Object userId = session.getAttribute("USER_ID");
+            return userId != null ? "u:" + userId : "s:" + session.getId();
+        }
+        return "ip:" + networkOf(request.getRemoteAddr());
+    }
+
+    // IPv6 는 한 호스트가 /64 안의 주소를 마음대로 바꿀 수 있으므로 /64 단위로 묶음
+    static String networkOf(String remoteAddr) {
+        if (remoteAddr == null || remoteAddr.indexOf(':') < 0) {
+            return remoteAddr;
+        }
+        try {
+            // IP 리터럴이므로 DNS 조회 없음
+            InetAddress address = InetAddress.getByName(remoteAddr);
+            if (!(address instanceof Inet6Address)) {
+                return address.getHostAddress();
+            }
+            byte[] bytes = address.getAddress();
+            StringBuilder prefix = new StringBuilder();
+            for (int i = 0; i < 8; i += 2) {
+                prefix.append(Integer.toHexString(((bytes[i] & 0xff) << 8) | (bytes[i + 1] & 0xff))).append(':');
+            }
+            return prefix.append(":/64").toString();
+        } catch (UnknownHostException e) {
+            return remoteAddr;
+        }
+    }
+
+    private static final class RouteGroup {
+
+        private final String name;
+        private final Set<String> methods;
+        private final List<PathPattern> patterns;
+        private final RateLimiter limiter;
+        private final LongAdder allowed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+
+        private RouteGroup(RateLimitProperties.Group group, int maxKeys, long idleNanos) {
+            this.name = group.name();
+            this.methods = group.methods().stream()
+                    .map(String::toUpperCase)
+                    .collect(Collectors.toUnmodifiableSet());
+            this.patterns = group.paths().stream()
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+            this.limiter = new RateLimiter(group.capacity(), group.refillPerSecond(), maxKeys, idleNanos);
+        }
+    }
+}
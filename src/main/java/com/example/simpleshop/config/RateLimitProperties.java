@@ -0,0 +1,29 @@
+package com.example.simpleshop.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 경로 그룹별 요청 제한. 요청은 처음으로 일치하는 그룹 하나에만 적용된다.
+ */
+@ConfigurationProperties("rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        // 그룹마다 추적하는 최대 키(사용자/세션/IP) 수
+        @DefaultValue("100000") int maxKeys,
+        @DefaultValue("10m") Duration idleTimeout,
+        @DefaultValue List<Group> groups
+) {
+
+    public record Group(
+            String name,
+            List<String> paths,
+            // 비어 있으면 모든 메서드
+            @DefaultValue List<String> methods,
+            int capacity,
+            double refillPerSecond
+    ) {}
+}
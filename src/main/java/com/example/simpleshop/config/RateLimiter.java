@@ -0,0 +1,92 @@
+package com.example.simpleshop.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키별 토큰 버킷 (GCRA: 버킷마다 "다음 요청이 이론상 도착해야 할 시각" 하나만 저장).
+ * 버킷 상태는 AtomicLong CAS 로만 갱신하므로 락이 없고, 테이블은 ConcurrentHashMap 이라 조회에 락이 없다.
+ */
+public class RateLimiter {
+
+    static final int OVERFLOW_STRIPES = 1024;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeys;
+    private final long idleNanos;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    // 키가 너무 많아지면 새 키는 해시로 고른 공용 버킷을 사용 (무작위 IP 로 테이블을 키우는 공격 대비).
+    // 버킷 하나를 모두가 나눠 쓰면 테이블을 채운 쪽이 다른 모든 새 클라이언트를 막게 되므로 여러 개로 나눔
+    private final AtomicLong[] overflow = new AtomicLong[OVERFLOW_STRIPES];
+
+    /**
+     * @param capacity        연속으로 허용하는 요청 수 (버스트)
+     * @param refillPerSecond 초당 보충되는 요청 수
+     */
+    public RateLimiter(int capacity, double refillPerSecond, int maxKeys, long idleNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity >= 1, refillPerSecond > 0 이어야 합니다.");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.maxKeys = maxKeys;
+        this.idleNanos = idleNanos;
+        for (int i = 0; i < OVERFLOW_STRIPES; i++) {
+            overflow[i] = new AtomicLong(Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * 요청 1건을 허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 나노초를 반환한다.
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.size() < maxKeys
+                    ? buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE))
+                    : overflow[stripeOf(key)];
+        }
+
+        while (true) {
+            long tat = bucket.get();
+            // 처음 요청이거나 오래 쉬었으면 지금부터 시작
+            long start = tat == Long.MIN_VALUE || tat - nowNanos < 0 ? nowNanos : tat;
+            long waitNanos = start - burstToleranceNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(tat, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * idle 시간 이상 요청이 없던 키를 제거한다 (제거된 키의 버킷은 이미 가득 찬 상태이므로 동작은 같다).
+     */
+    public int evictIdle(long nowNanos) {
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> isIdle(entry.getValue().get(), nowNanos));
+        for (AtomicLong stripe : overflow) {
+            if (isIdle(stripe.get(), nowNanos)) {
+                stripe.set(Long.MIN_VALUE);
+            }
+        }
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    static int stripeOf(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (OVERFLOW_STRIPES - 1);
+    }
+
+    private boolean isIdle(long tat, long nowNanos) {
+        return tat == Long.MIN_VALUE || nowNanos - tat > idleNanos;
+    }
+}
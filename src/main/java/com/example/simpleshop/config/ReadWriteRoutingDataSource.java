@@ -0,0 +1,34 @@
+package com.example.simpleshop.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica, 그 외(쓰기 트랜잭션, 트랜잭션 밖 접근)는 primary 로 보낸다.
+ * readOnly 여부는 트랜잭션 시작 후에야 정해지므로 LazyConnectionDataSourceProxy 뒤에서 사용해야 한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReadYourWritesWindow readYourWrites;
+
+    public ReadWriteRoutingDataSource(ReadYourWritesWindow readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+
+    public Route currentRoute() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWrites.recordWriteOnCommit();
+            }
+            return Route.PRIMARY;
+        }
+        return readYourWrites.isActive() ? Route.PRIMARY : Route.REPLICA;
+    }
+}
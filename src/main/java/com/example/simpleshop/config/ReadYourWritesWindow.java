@@ -0,0 +1,70 @@
+package com.example.simpleshop.config;
+
+import jakarta.servlet.http.HttpSession;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * 자신이 쓴 데이터를 바로 읽을 수 있도록, 쓰기 트랜잭션 커밋 후 일정 시간 동안 같은 세션의 읽기를 primary 로 보낸다.
+ * 시각은 세션에 저장하므로 사용자마다 따로 적용되고 별도 테이블이 필요 없다.
+ */
+public class ReadYourWritesWindow {
+
+    static final String SESSION_ATTRIBUTE = "DB_PRIMARY_UNTIL";
+
+    private final long windowMillis;
+
+    public ReadYourWritesWindow(Duration window) {
+        this.windowMillis = window.toMillis();
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션이 커밋되면 세션에 primary 고정 시각을 기록한다
+     */
+    public void recordWriteOnCommit() {
+        if (windowMillis <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        HttpSession session = currentSession();
+        if (session == null) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    session.setAttribute(SESSION_ATTRIBUTE, System.currentTimeMillis() + windowMillis);
+                } catch (IllegalStateException e) {
+                    // 그 사이 세션이 만료됨 (로그아웃 등)
+                }
+            }
+        });
+    }
+
+    public boolean isActive() {
+        HttpSession session = currentSession();
+        if (session == null) {
+            return false;
+        }
+        try {
+            return session.getAttribute(SESSION_ATTRIBUTE) instanceof Long until
+                    && until > System.currentTimeMillis();
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    // 백그라운드 작업 등 요청 밖이거나 세션이 없으면 null (세션을 새로 만들지 않음)
+    private static HttpSession currentSession() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servlet
+                ? servlet.getRequest().getSession(false)
+                : null;
+    }
+}
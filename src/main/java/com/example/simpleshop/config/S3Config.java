@@ -1,22 +1,28 @@
 package com.example.simpleshop.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 
+// image.store=local 이면 S3 관련 빈을 만들지 않음 (AWS 자격 증명 불필요)
 @Configuration
+@ConditionalOnProperty(name = "image.store", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    @Value("${cloud.aws.region:ap-northeast-2}")
+    private String region;
+
     @Bean
     public S3Client s3Client() {
         return S3Client.builder()
-                .region(Region.AP_NORTHEAST_2) // 서울
+                .region(Region.of(region))
                 .credentialsProvider(DefaultCredentialsProvider.create()) // IAM Role 기반
                 .build();
     }
@@ -26,4 +32,3 @@ public class S3Config {
         return bucket;
     }
 }
-
@@ -23,6 +23,7 @@ import org.springframework.security.web.session.HttpSessionEventPublisher;
 public class SecurityConfig {
 
     private final SessionAuthenticationFilter sessionAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -34,8 +35,15 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Swagger & H2 콘솔은 전체 허용
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/h2-console/**").permitAll()
+                        // 로컬 저장소 이미지는 공개
+                        .requestMatchers(HttpMethod.GET, "/images/**").permitAll()
+                        // 헬스 체크는 공개, 나머지 actuator(metrics, slowqueries 등)는 운영자만 (회원가입이 열려 있으므로 로그인만으로는 부족)
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("OPERATOR")
                         // 회원가입/로그인은 인증 없이 허용
                         .requestMatchers("/api/users/signup", "/api/users/login").permitAll()
+                        // 전체 내보내기/가져오기 작업 조회는 로그인 사용자만
+                        .requestMatchers(HttpMethod.GET, "/api/products/export", "/api/products/imports/**").authenticated()
                         // 상품 목록 및 상세 조회 (GET 요청) 전체 공개
                         .requestMatchers(HttpMethod.GET, "/api/products/**").permitAll()
                         // 나머지 API 요청은 인증 필요 (상품 등록/수정/삭제, 마이페이지 등)
@@ -53,6 +61,8 @@ public class SecurityConfig {
             
             // Custom filter for session-based authentication
             .addFilterBefore(sessionAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // 요청 제한은 인증(사용자 조회)보다 먼저
+            .addFilterBefore(rateLimitFilter, SessionAuthenticationFilter.class)
             
             // Disable form login and HTTP Basic
             .formLogin(AbstractHttpConfigurer::disable)
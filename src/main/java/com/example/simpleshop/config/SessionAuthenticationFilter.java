@@ -1,31 +1,59 @@
 package com.example.simpleshop.config;
 
+import com.example.simpleshop.domain.user.SessionUser;
 import com.example.simpleshop.domain.user.User;
 import com.example.simpleshop.domain.user.UserRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class SessionAuthenticationFilter extends OncePerRequestFilter {
+public class SessionAuthenticationFilter extends OncePerRequestFilter implements MeterBinder {
 
     private final UserRepository userRepository;
+    // ROLE_OPERATOR (actuator 접근) 를 받는 계정
+    private final Set<String> operatorEmails;
+    private final SecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
+
+    // Cheap per-request counters, exported through bindTo
+    private final LongAdder restoredFromSession = new LongAdder();
+    private final LongAdder userLookups = new LongAdder();
+    private final LongAdder invalidatedSessions = new LongAdder();
+
+    public SessionAuthenticationFilter(UserRepository userRepository,
+                                       @Value("${app.security.operator-emails:}") List<String> operatorEmails) {
+        this.userRepository = userRepository;
+        this.operatorEmails = operatorEmails.stream()
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableSet());
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -42,9 +70,7 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
         try {
             // Get session without creating a new one if it doesn't exist
             HttpSession session = request.getSession(false);
-            
-            // If there's no session or authentication is already set, continue the filter chain
-            if (session == null || SecurityContextHolder.getContext().getAuthentication() != null) {
+            if (session == null) {
                 filterChain.doFilter(request, response);
                 return;
             }
@@ -56,34 +82,44 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // Find user by ID
+            // Principal already restored from the session by SecurityContextHolderFilter
+            Authentication current = SecurityContextHolder.getContext().getAuthentication();
+            if (current != null && !isOtherSessionUser(current, userId)) {
+                restoredFromSession.increment();
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            // First request of the session (or re-login as another user): resolve the user once
+            userLookups.increment();
             Optional<User> userOptional = userRepository.findById(userId);
             if (userOptional.isEmpty()) {
+                invalidatedSessions.increment();
                 // Invalid user ID in session, invalidate session
                 session.invalidate();
+                SecurityContextHolder.clearContext();
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            User user = userOptional.get();
-            
             // Create authentication token with user authorities
+            User user = userOptional.get();
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
-                            user, 
-                            null, 
-                            List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                            SessionUser.from(user),
+                            null,
+                            authoritiesOf(user)
                     );
 
             // Set authentication details
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            
-            // Set authentication in security context
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            
-            // Update session last accessed time
-            session.setAttribute("LAST_ACCESS", System.currentTimeMillis());
-            
+
+            // Set authentication in security context and keep it in the session for later requests
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(authentication);
+            SecurityContextHolder.setContext(context);
+            securityContextRepository.saveContext(context, request, response);
+
         } catch (Exception e) {
             log.error("Cannot set user authentication: {}", e.getMessage());
         }
@@ -91,12 +127,41 @@ public class SessionAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("session.auth.requests", restoredFromSession, LongAdder::doubleValue)
+                .description("Authenticated requests served from the session principal")
+                .tag("source", "session")
+                .register(registry);
+        FunctionCounter.builder("session.auth.requests", userLookups, LongAdder::doubleValue)
+                .description("Authenticated requests that needed a user lookup")
+                .tag("source", "lookup")
+                .register(registry);
+        FunctionCounter.builder("session.auth.invalidated", invalidatedSessions, LongAdder::doubleValue)
+                .description("Sessions invalidated because the user no longer exists")
+                .register(registry);
+    }
+
+    private List<SimpleGrantedAuthority> authoritiesOf(User user) {
+        if (operatorEmails.contains(user.getEmail().toLowerCase())) {
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_OPERATOR"));
+        }
+        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+    }
+
+    // Re-login as another account keeps the session but changes USER_ID
+    private boolean isOtherSessionUser(Authentication authentication, Long userId) {
+        return authentication.getPrincipal() instanceof SessionUser principal
+                && !principal.id().equals(userId);
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
         return path.startsWith("/swagger-ui") || 
                path.startsWith("/v3/api-docs") || 
                path.startsWith("/h2-console") ||
+               path.startsWith("/images/") ||
                path.equals("/api/users/signup") || 
                path.equals("/api/users/login");
     }
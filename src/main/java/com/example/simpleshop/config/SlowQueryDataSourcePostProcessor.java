@@ -0,0 +1,36 @@
+package com.example.simpleshop.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션이 사용하는 DataSource("dataSource" 빈) 를 감싸 모든 문장 실행 시간을 SlowQueryMonitor 로 보낸다.
+ * 라우팅 사용 시에는 라우팅 프록시를 감싸므로 primary / replica 풀을 각각 감싸지 않는다.
+ */
+@Component
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryMonitor> slowQueryMonitor;
+
+    // BeanPostProcessor 는 일찍 만들어지므로 모니터는 필요할 때 가져옴
+    public SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryMonitor> slowQueryMonitor) {
+        this.slowQueryMonitor = slowQueryMonitor;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)
+                || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(slowQueryMonitor.getObject())
+                .build();
+    }
+}
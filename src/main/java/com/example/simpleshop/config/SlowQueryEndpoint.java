@@ -0,0 +1,32 @@
+package com.example.simpleshop.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * GET /actuator/slowqueries?limit=20&sort=total|max|p99|count, DELETE 로 통계 초기화
+ * 조회/초기화 모두 ROLE_OPERATOR 만 가능 (SecurityConfig)
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryMonitor slowQueryMonitor;
+
+    @ReadOperation
+    public List<SlowQueryMonitor.ShapeReport> top(@Nullable Integer limit, @Nullable String sort) {
+        return slowQueryMonitor.top(limit == null ? 20 : Math.min(limit, 200), sort);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        slowQueryMonitor.reset();
+    }
+}
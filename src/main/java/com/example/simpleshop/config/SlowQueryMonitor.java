@@ -0,0 +1,187 @@
+package com.example.simpleshop.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC 문장 실행 시간을 SQL 모양(SqlShape)별로 모은다.
+ * 모든 문장을 로그로 남기는 대신 threshold 를 넘은 문장만 호출한 서비스 메서드와 함께 남긴다.
+ */
+@Slf4j
+@Component
+public class SlowQueryMonitor implements QueryExecutionListener {
+
+    private static final String START_NANOS = "slowQuery.startNanos";
+    private static final String OTHER_SHAPES = "(other)";
+    private static final String APP_PACKAGE = "com.example.simpleshop.";
+    private static final String CGLIB_SUFFIX = "$$SpringCGLIB$$";
+    private static final Set<String> SELF = Set.of(
+            SlowQueryMonitor.class.getName(), SlowQueryDataSourcePostProcessor.class.getName());
+
+    private final long thresholdNanos;
+    private final int maxShapes;
+    private final Timer queryTimer;
+    private final ConcurrentHashMap<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+    // 모양 문자열 정규화 결과 캐시 (Hibernate 가 만드는 SQL 종류는 한정적)
+    private final ConcurrentHashMap<String, String> shapeOfSql = new ConcurrentHashMap<>();
+
+    public SlowQueryMonitor(@Value("${db.slow-query.threshold:200ms}") Duration threshold,
+                            @Value("${db.slow-query.max-shapes:1000}") int maxShapes,
+                            MeterRegistry meterRegistry) {
+        this.thresholdNanos = threshold.toNanos();
+        this.maxShapes = maxShapes;
+        this.queryTimer = Timer.builder("db.query")
+                .description("JDBC 문장 실행 시간 (모양별 분포는 /actuator/slowqueries)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (start == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        // 배치는 첫 문장 기준으로 묶음
+        String sql = queryInfoList.get(0).getQuery();
+        String shape = record(sql, elapsedNanos);
+
+        if (elapsedNanos >= thresholdNanos) {
+            log.warn("느린 쿼리 {}ms (호출: {}, 배치: {}) {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), callerOf(), execInfo.getBatchSize(), shape);
+        }
+    }
+
+    String record(String sql, long elapsedNanos) {
+        queryTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        String shape = shapeOfSql.size() < maxShapes * 4
+                ? shapeOfSql.computeIfAbsent(sql, SqlShape::of)
+                : SqlShape.of(sql);
+        ShapeStats stats = shapes.get(shape);
+        if (stats == null) {
+            // 모양 수 상한을 넘으면 하나로 합침 (리터럴이 섞인 SQL 로 메모리가 늘어나지 않도록)
+            stats = shapes.size() < maxShapes
+                    ? shapes.computeIfAbsent(shape, k -> new ShapeStats())
+                    : shapes.computeIfAbsent(OTHER_SHAPES, k -> new ShapeStats());
+        }
+        stats.record(elapsedNanos);
+        return shape;
+    }
+
+    /**
+     * 총 소요 시간(또는 최대/p99) 기준 상위 limit 개 모양
+     */
+    public List<ShapeReport> top(int limit, String sortBy) {
+        Comparator<ShapeReport> order = switch (sortBy == null ? "total" : sortBy) {
+            case "total" -> Comparator.comparingDouble(ShapeReport::totalMillis);
+            case "max" -> Comparator.comparingDouble(ShapeReport::maxMillis);
+            case "p99" -> Comparator.comparingDouble(ShapeReport::p99Millis);
+            case "count" -> Comparator.comparingLong(ShapeReport::count);
+            default -> throw new IllegalArgumentException("sort 는 total, max, p99, count 중 하나입니다.");
+        };
+        return shapes.entrySet().stream()
+                .map(entry -> entry.getValue().report(entry.getKey()))
+                .sorted(order.reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    public void reset() {
+        shapes.clear();
+    }
+
+    // 이 문장을 실행시킨 애플리케이션 코드 (리포지토리 프록시, 설정 클래스 제외).
+    // 커밋 시 flush 되는 INSERT/UPDATE 는 서비스 메서드가 이미 끝나 @Transactional 프록시 프레임만 남으므로 그 이름을 사용
+    static String callerOf() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE))
+                .filter(frame -> !SELF.contains(frame.getClassName()))
+                .filter(frame -> frame.getClassName().contains(CGLIB_SUFFIX) || !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(SlowQueryMonitor::describe)
+                .orElse("unknown"));
+    }
+
+    private static String describe(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        int proxy = className.indexOf(CGLIB_SUFFIX);
+        if (proxy >= 0) {
+            // 프록시 프레임에는 의미 있는 줄 번호가 없음
+            return simpleName(className.substring(0, proxy)) + "." + frame.getMethodName();
+        }
+        return simpleName(className) + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    public record ShapeReport(String sql, long count, double totalMillis, double meanMillis,
+                              double p50Millis, double p95Millis, double p99Millis, double maxMillis) {}
+
+    /**
+     * 모양 하나의 누적 통계. 지연 시간은 2배 간격(마이크로초 기준) 버킷에 세어 백분위를 근사한다.
+     */
+    static final class ShapeStats {
+
+        private static final int BUCKETS = 40;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        // i 번째 버킷: [2^i, 2^(i+1)) 마이크로초
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            long micros = Math.max(1, nanos / 1000);
+            histogram.incrementAndGet(Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(micros)));
+        }
+
+        ShapeReport report(String sql) {
+            long n = count.sum();
+            double total = totalNanos.sum() / 1e6;
+            return new ShapeReport(sql, n, total, n == 0 ? 0 : total / n,
+                    percentile(n, 0.50), percentile(n, 0.95), percentile(n, 0.99), maxNanos.get() / 1e6);
+        }
+
+        // 해당 백분위가 속한 버킷의 상한 (최대값을 넘지 않게)
+        private double percentile(long n, double p) {
+            long rank = (long) Math.ceil(n * p);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += histogram.get(i);
+                if (seen >= rank && seen > 0) {
+                    return Math.min((1L << (i + 1)) / 1e3, maxNanos.get() / 1e6);
+                }
+            }
+            return maxNanos.get() / 1e6;
+        }
+    }
+}
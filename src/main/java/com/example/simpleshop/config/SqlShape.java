@@ -0,0 +1,32 @@
+package com.example.simpleshop.config;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 에서 값(리터럴, 바인드 개수)을 지워 같은 모양의 문장을 하나로 묶는다.
+ * 예: select ... where id in (?, ?, ?) limit 10 -> select ... where id in (?...) limit ?
+ */
+final class SqlShape {
+
+    private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern VALUES_LIST = Pattern.compile("(\\(\\?\\.\\.\\.\\))(?:\\s*,\\s*\\(\\?\\.\\.\\.\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShape() {
+    }
+
+    static String of(String sql) {
+        String shape = BLOCK_COMMENT.matcher(sql).replaceAll(" ");
+        shape = LINE_COMMENT.matcher(shape).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER.matcher(shape).replaceAll("?");
+        // in (?, ?, ?) 와 다중 행 values (...), (...) 는 개수와 상관없이 같은 모양
+        shape = PLACEHOLDER_LIST.matcher(shape).replaceAll("(?...)");
+        shape = VALUES_LIST.matcher(shape).replaceAll("$1");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
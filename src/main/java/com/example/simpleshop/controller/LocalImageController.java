@@ -0,0 +1,108 @@
+package com.example.simpleshop.controller;
+
+import com.example.simpleshop.domain.common.ByteRange;
+import com.example.simpleshop.domain.common.ImageService;
+import com.example.simpleshop.domain.common.LocalImageStore;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 저장소 이미지 서빙 (image.store=local).
+ * Tomcat 이 sendfile 을 지원하면 파일 전송을 커넥터에 넘기고 (커널 zero-copy),
+ * 아니면 FileChannel.transferTo 로 복사한다. Range 요청은 206 / 416 으로 응답한다.
+ */
+@Hidden
+@RestController
+@ConditionalOnProperty(name = "image.store", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalImageController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalImageStore localImageStore;
+
+    @GetMapping("/images/{key}")
+    public void serve(@PathVariable String key, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path path;
+        try {
+            path = localImageStore.resolve(key);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!Files.isRegularFile(path)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = Files.size(path);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 키가 내용의 해시({sha256}.{ext})이므로 같은 URL 의 내용은 바뀌지 않아 immutable 캐시가 안전함
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable");
+
+        ByteRange range = ByteRange.parse(request.getHeader(HttpHeaders.RANGE), length);
+        if (range == null) {
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            return;
+        }
+        if (range.isPartial(length)) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + length);
+        }
+
+        // 허용된 이미지 형식만 그 타입으로 서빙하고, 나머지는 브라우저가 렌더링하지 않도록 내려받기로 처리
+        String contentType = ImageService.contentTypeOf(key);
+        if (contentType == null) {
+            contentType = "application/octet-stream";
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment");
+        }
+        response.setContentType(contentType);
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setHeader("Content-Security-Policy", "default-src 'none'; sandbox");
+        response.setContentLengthLong(range.length());
+        if ("HEAD".equals(request.getMethod()) || range.length() == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1); // exclusive
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range.start();
+            long remaining = range.length();
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+}
@@ -1,21 +1,36 @@
 package com.example.simpleshop.controller;
 
+import com.example.simpleshop.domain.common.AcceptEncoding;
+import com.example.simpleshop.domain.product.ProductBulkService;
+import com.example.simpleshop.domain.product.ProductExportService;
+import com.example.simpleshop.domain.product.ProductKey;
+import com.example.simpleshop.domain.product.ProductResponseCache;
 import com.example.simpleshop.domain.product.ProductService;
 import com.example.simpleshop.dto.product.*;
 import com.example.simpleshop.dto.common.ApiResponse;
+import com.example.simpleshop.dto.common.CursorPage;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Tag(name = "상품 API", description = "상품 등록/조회/수정/삭제")
@@ -25,6 +40,9 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductBulkService productBulkService;
+    private final ProductExportService productExportService;
+    private final ProductResponseCache productResponseCache;
 
     @Operation(summary = "상품 등록 (정보만)")
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
@@ -32,6 +50,18 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(productService.create(request)));
     }
 
+    @Operation(summary = "상품 일괄 등록", description = "청크 단위로 나눠 저장하며 항목별 성공/실패와 처리 속도를 반환합니다.")
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<ProductBulkResponse>> createAll(@RequestBody List<ProductRequest> requests) {
+        return ResponseEntity.ok(ApiResponse.success(productBulkService.createAll(requests)));
+    }
+
+    @Operation(summary = "상품 일괄 수정", description = "청크 단위로 나눠 저장하며 항목별 성공/실패와 처리 속도를 반환합니다.")
+    @PutMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<ProductBulkResponse>> updateAll(@RequestBody List<ProductBulkUpdateRequest> requests) {
+        return ResponseEntity.ok(ApiResponse.success(productBulkService.updateAll(requests)));
+    }
+
     @Operation(summary = "상품 이미지 여러 개 업로드 (S3)")
     @PostMapping(value = "/{productId}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<List<String>>> uploadImages(
@@ -42,6 +72,18 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success(imageUrls));
     }
 
+    @Operation(summary = "상품 이미지 부분 수정",
+            description = "images 파트의 파일은 뒤에 추가하고, changes 파트(JSON)로 삭제할 ID 와 기존 이미지 순서를 지정합니다.")
+    @PatchMapping(value = "/{productId}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<List<ProductImageResponse>>> patchImages(
+            @PathVariable Long productId,
+            @RequestPart(value = "changes", required = false) ProductImagePatchRequest changes,
+            @RequestPart(value = "images", required = false) List<MultipartFile> images
+    ) throws IOException {
+        ProductImagePatchRequest request = changes == null ? new ProductImagePatchRequest(null, null) : changes;
+        return ResponseEntity.ok(ApiResponse.success(productService.patchImages(productId, request, images)));
+    }
+
 
     @Operation(summary = "상품 목록 조회 (페이징)")
     @GetMapping
@@ -53,21 +95,133 @@ public class ProductController {
             @RequestParam(value = "size", defaultValue = "10") int size,
 
             @Parameter(description = "정렬 기준 (latest | priceAsc | priceDesc)", example = "latest")
-            @RequestParam(defaultValue = "latest") String sortBy
+            @RequestParam(defaultValue = "latest") String sortBy,
+
+            @Parameter(description = "최소 가격 (포함)", example = "10000")
+            @RequestParam(required = false) Integer minPrice,
+
+            @Parameter(description = "최대 가격 (포함)", example = "50000")
+            @RequestParam(required = false) Integer maxPrice,
+
+            @Parameter(description = "가격 히스토그램 구간 크기 (구간이 100개를 넘으면 자동으로 넓어짐)", example = "10000")
+            @RequestParam(defaultValue = "10000") int bucketSize,
+
+            WebRequest webRequest
     ) {
         if (page < 0 || size <= 0 || size > 100) {
             throw new IllegalArgumentException("page는 0 이상, size는 1~100 사이여야 합니다.");
         }
+        if (bucketSize <= 0 || (minPrice != null && maxPrice != null && minPrice > maxPrice)) {
+            throw new IllegalArgumentException("bucketSize는 1 이상, minPrice는 maxPrice 이하여야 합니다.");
+        }
 
+        // 페이지의 (id, version) 과 히스토그램만으로 변경 여부 판단 -> 변경 없으면 304 (엔티티 조회/직렬화 생략)
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(ApiResponse.success(productService.findAll(pageable, sortBy)));
+        Page<ProductKey> keys = productService.findPageKeys(pageable, sortBy, minPrice, maxPrice);
+        List<PriceBucket> histogram = productService.priceHistogram(minPrice, maxPrice, bucketSize);
+        if (webRequest.checkNotModified(listingETag(sortBy, keys, histogram))) {
+            return null;
+        }
+
+        Page<ProductResponse> products = productService.findAll(keys);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(listingETag(sortBy, products.map(p -> new ProductKey(p.id(), p.version())), histogram))
+                .body(ApiResponse.success(new ProductPage(products, histogram)));
+    }
+
+
+    @Operation(summary = "상품 목록 조회 (커서 페이징)",
+            description = "cursor 파라미터가 있으면 커서 모드로 동작합니다. 첫 페이지는 빈 값(cursor=)으로 요청하고, 이후 응답의 nextCursor 를 전달합니다.")
+    @GetMapping(params = "cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ProductResponse>>> findAllByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)", example = "")
+            @RequestParam(value = "cursor") String cursor,
+
+            @Parameter(description = "페이지 크기 (1~100 사이 권장)", example = "10")
+            @RequestParam(value = "size", defaultValue = "10") int size,
+
+            @Parameter(description = "정렬 기준 (latest | priceAsc | priceDesc)", example = "latest")
+            @RequestParam(defaultValue = "latest") String sortBy
+    ) {
+        if (size <= 0 || size > 100) {
+            throw new IllegalArgumentException("size는 1~100 사이여야 합니다.");
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(productService.findAllByCursor(cursor, size, sortBy)));
+    }
+
+
+    @Operation(summary = "상품 검색", description = "상품명/설명에서 검색어를 모두 포함하는 상품을 관련도 순으로 반환합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<ProductResponse>>> search(
+            @Parameter(description = "검색어 (한글/영문)", example = "고양이 인형")
+            @RequestParam("q") String query,
+
+            @Parameter(description = "결과 개수 (1~100)", example = "20")
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        if (query.isBlank() || size <= 0 || size > 100) {
+            throw new IllegalArgumentException("검색어는 필수이며, size는 1~100 사이여야 합니다.");
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(productService.search(query, size)));
     }
 
 
-    @Operation(summary = "상품 상세 조회")
+    @Operation(summary = "전체 상품 내보내기",
+            description = "전체 카탈로그를 한 시점의 스냅샷으로 스트리밍합니다. ndjson 은 한 줄에 상품 하나, csv 는 이미지 URL 을 | 로 구분합니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "출력 형식 (ndjson | csv)", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        boolean csv = switch (format) {
+            case "ndjson" -> false;
+            case "csv" -> true;
+            default -> throw new IllegalArgumentException("format은 ndjson 또는 csv 여야 합니다.");
+        };
+
+        // 응답은 별도 스레드에서 행 단위로 바로 기록됨 (전체를 메모리에 올리지 않음)
+        StreamingResponseBody body = csv ? productExportService::exportCsv : productExportService::exportNdjson;
+        return ResponseEntity.ok()
+                .contentType(csv
+                        ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                        : MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("products." + format)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(summary = "상품 상세 조회", responses = @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200", content = @Content(schema = @Schema(implementation = ProductResponse.class))))
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<ProductResponse>> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(ApiResponse.success(productService.findById(id)));
+    public ResponseEntity<byte[]> findById(@PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                           String acceptEncoding,
+                                           WebRequest webRequest) {
+        // version 만 조회해 If-None-Match 와 비교 -> 같으면 304
+        long version = productService.findVersion(id);
+        if (webRequest.checkNotModified(productETag(id, version))) {
+            return null;
+        }
+
+        // 직렬화된 JSON 을 그대로 응답 (같은 version 이면 toDto, Jackson 생략)
+        ProductResponseCache.SerializedProduct product =
+                productResponseCache.get(id, version, () -> productService.findById(id));
+        String coding = product.gzip() == null ? null : AcceptEncoding.gzipCoding(acceptEncoding);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(productETag(id, product.version()))
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (coding != null) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, coding).body(product.gzip());
+        }
+        return response.body(product.json());
     }
 
     @Operation(summary = "상품 수정")
@@ -96,4 +250,23 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success("삭제 성공"));
     }
 
+    private String productETag(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    // 페이지 조건 + 전체 건수 + 각 상품 (id, version) + 히스토그램으로 만든 목록 ETag
+    private String listingETag(String sortBy, Page<ProductKey> keys, List<PriceBucket> histogram) {
+        StringBuilder source = new StringBuilder()
+                .append(sortBy).append('|')
+                .append(keys.getNumber()).append('|')
+                .append(keys.getSize()).append('|')
+                .append(keys.getTotalElements());
+        for (ProductKey key : keys.getContent()) {
+            source.append('|').append(key.id()).append(':').append(key.version());
+        }
+        for (PriceBucket bucket : histogram) {
+            source.append('|').append(bucket.minPrice()).append('-').append(bucket.count());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.simpleshop.controller;
+
+import com.example.simpleshop.domain.product.ProductImportService;
+import com.example.simpleshop.dto.common.ApiResponse;
+import com.example.simpleshop.dto.product.ProductImportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+@Tag(name = "상품 가져오기 API", description = "CSV 로 상품 대량 등록")
+@RestController
+@RequestMapping("/api/products/imports")
+@RequiredArgsConstructor
+public class ProductImportController {
+
+    private final ProductImportService productImportService;
+
+    @Operation(summary = "CSV 가져오기 시작",
+            description = "헤더: name,price (필수), description, imageUrls (| 구분, 선택). 작업은 백그라운드에서 진행됩니다.")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ProductImportResponse>> start(@RequestPart("file") MultipartFile file) throws IOException {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(productImportService.start(file)));
+    }
+
+    @Operation(summary = "가져오기 진행 상황 조회")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<ProductImportResponse>> find(@PathVariable Long jobId) {
+        return ResponseEntity.ok(ApiResponse.success(productImportService.find(jobId)));
+    }
+
+    @Operation(summary = "가져오기 재개", description = "마지막으로 커밋된 청크 다음 행부터 다시 처리합니다.")
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<ApiResponse<ProductImportResponse>> resume(@PathVariable Long jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(productImportService.resume(jobId)));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.simpleshop.domain.common;
+
+import java.util.Locale;
+
+/**
+ * HTTP Accept-Encoding 에서 gzip 응답 가능 여부 (q 값 포함, RFC 9110).
+ * q=0 은 거부, x-gzip 은 gzip 과 같은 코딩으로 보고, 명시되지 않으면 * 의 q 를 따른다.
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    /**
+     * 응답에 사용할 코딩 이름 (gzip 또는 x-gzip). gzip 을 받지 않으면 null
+     */
+    public static String gzipCoding(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+
+        Double gzip = null;
+        Double xGzip = null;
+        Double any = null;
+        for (String element : header.split(",")) {
+            String[] params = element.split(";");
+            double q = qValue(params);
+            switch (params[0].trim().toLowerCase(Locale.ROOT)) {
+                case "gzip" -> gzip = q;
+                case "x-gzip" -> xGzip = q;
+                case "*" -> any = q;
+                default -> {
+                }
+            }
+        }
+
+        if (gzip != null) {
+            return gzip > 0 ? "gzip" : null;
+        }
+        if (xGzip != null) {
+            return xGzip > 0 ? "x-gzip" : null;
+        }
+        return any != null && any > 0 ? "gzip" : null;
+    }
+
+    // q 가 없으면 1, 잘못된 값이면 0 (받지 않는 것으로 처리)
+    private static double qValue(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    double q = Double.parseDouble(param.substring(2).trim());
+                    return q >= 0 && q <= 1 ? q : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
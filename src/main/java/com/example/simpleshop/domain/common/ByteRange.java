@@ -0,0 +1,59 @@
+package com.example.simpleshop.domain.common;
+
+/**
+ * HTTP Range 요청 (bytes=start-end, 양 끝 포함).
+ * 다중 범위나 형식이 잘못된 헤더는 무시하고 전체를 응답한다 (RFC 9110).
+ */
+public record ByteRange(long start, long end) {
+
+    public static ByteRange full(long length) {
+        return new ByteRange(0, length - 1);
+    }
+
+    /**
+     * 만족할 수 없는 범위면 null (416)
+     */
+    public static ByteRange parse(String header, long length) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return full(length);
+        }
+
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return full(length);
+        }
+
+        try {
+            if (dash == 0) {
+                // bytes=-N : 마지막 N 바이트
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0 || length == 0) {
+                    return null;
+                }
+                return new ByteRange(Math.max(0, length - suffix), length - 1);
+            }
+
+            long start = Long.parseLong(spec.substring(0, dash));
+            String last = spec.substring(dash + 1);
+            long end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+            if (end < start) {
+                return full(length);
+            }
+            if (start >= length) {
+                return null;
+            }
+            return new ByteRange(start, Math.min(end, length - 1));
+        } catch (NumberFormatException e) {
+            return full(length);
+        }
+    }
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    public boolean isPartial(long totalLength) {
+        return start > 0 || end < totalLength - 1;
+    }
+}
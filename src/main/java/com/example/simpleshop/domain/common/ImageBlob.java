@@ -0,0 +1,60 @@
+package com.example.simpleshop.domain.common;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 저장소에 올라간 이미지 내용 (SHA-256 기준 1건).
+ * refCount 는 이 내용을 가리키는 상품 이미지 URL 수이며, 0 이 된 뒤에만 오브젝트를 삭제한다.
+ * 오브젝트를 지우는 동안에는 DELETING 으로 남겨 두고, 삭제가 끝난 뒤에 기록을 지운다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false, length = 1024)
+    private String storeKey;
+
+    private String contentType;
+
+    private long size;
+
+    private int refCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImageBlobStatus status;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private ImageBlob(String hash, String storeKey, String contentType, long size) {
+        this.hash = hash;
+        this.storeKey = storeKey;
+        this.contentType = contentType;
+        this.size = size;
+        this.status = ImageBlobStatus.STORED;
+        this.createdAt = Instant.now();
+    }
+
+    public static ImageBlob of(String hash, String storeKey, String contentType, long size) {
+        return new ImageBlob(hash, storeKey, contentType, size);
+    }
+
+    public void markDeleting() {
+        this.status = ImageBlobStatus.DELETING;
+    }
+
+    public boolean isDeleting() {
+        return status == ImageBlobStatus.DELETING;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.simpleshop.domain.common;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 내용 주소(content-addressed) 이미지의 참조 수 관리.
+ * 키가 SHA-256 으로 시작하지 않는 이전 형식의 이미지는 관리 대상이 아니다.
+ */
+public interface ImageBlobRegistry {
+
+    /**
+     * 이미 저장된 내용의 키 (처음 업로드된 키). 업로드마다 확장자가 달라도 이 키를 사용해야 한다.
+     * 삭제 중인 내용은 없는 것으로 본다.
+     */
+    Optional<String> findStoreKey(String hash);
+
+    /**
+     * 업로드 완료 기록 (참조 0). 같은 내용이 동시에 기록되어도 한 건만 남으며, 남은 기록의 키를 반환한다.
+     */
+    String registerStored(String hash, String key, String contentType, long size);
+
+    /**
+     * 상품 이미지가 키를 참조하기 시작함 (호출자 트랜잭션에 포함).
+     * 이미 삭제되었거나 삭제 중인 내용이면 IllegalStateException.
+     */
+    void retain(Collection<String> keys);
+
+    /**
+     * 상품 이미지가 키 참조를 끊음 (호출자 트랜잭션에 포함)
+     */
+    void release(Collection<String> keys);
+
+    /**
+     * 실제로 삭제해도 되는 키 (참조 0 인 내용 + 관리 대상이 아닌 키). 반환된 내용은 삭제 중(DELETING)으로 바뀌어
+     * 새 참조를 받지 않는다.
+     */
+    List<String> claimDeletable(Collection<String> keys);
+
+    /**
+     * 오브젝트 삭제가 끝난 키의 기록을 지운다. 삭제에 실패한 내용은 DELETING 으로 남아 재시도 때 다시 대상이 된다.
+     */
+    void deleted(Collection<String> keys);
+}
@@ -0,0 +1,35 @@
+package com.example.simpleshop.domain.common;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    // 동시 수정에도 안전하도록 조회 없이 DB 에서 증감
+    @Modifying
+    // 삭제 중(DELETING)인 내용은 참조를 받지 않음 -> 0 건 갱신
+    @Query("update ImageBlob b set b.refCount = b.refCount + :count " +
+            "where b.hash = :hash and b.status = com.example.simpleshop.domain.common.ImageBlobStatus.STORED")
+    int addReferences(@Param("hash") String hash, @Param("count") int count);
+
+    @Modifying
+    @Query("update ImageBlob b set b.refCount = case when b.refCount > :count then b.refCount - :count else 0 end " +
+            "where b.hash = :hash")
+    int removeReferences(@Param("hash") String hash, @Param("count") int count);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from ImageBlob b where b.hash in :hashes")
+    List<ImageBlob> findAllForUpdateByHashIn(@Param("hashes") Collection<String> hashes);
+
+    @Modifying
+    @Query("delete from ImageBlob b " +
+            "where b.hash in :hashes and b.status = com.example.simpleshop.domain.common.ImageBlobStatus.DELETING")
+    int deleteDeletingByHashIn(@Param("hashes") Collection<String> hashes);
+}
@@ -0,0 +1,135 @@
+package com.example.simpleshop.domain.common;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+public class ImageBlobService implements ImageBlobRegistry {
+
+    // SHA-256(hex) + 선택적 확장자
+    private static final Pattern CONTENT_KEY = Pattern.compile("^[0-9a-f]{64}(\\.[a-z0-9]+)?$");
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final TransactionTemplate requiresNew;
+
+    public ImageBlobService(ImageBlobRepository imageBlobRepository, PlatformTransactionManager transactionManager) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> findStoreKey(String hash) {
+        return imageBlobRepository.findById(hash)
+                .filter(blob -> !blob.isDeleting())
+                .map(ImageBlob::getStoreKey);
+    }
+
+    @Override
+    public String registerStored(String hash, String key, String contentType, long size) {
+        try {
+            return requiresNew.execute(status -> imageBlobRepository.findById(hash)
+                    .map(ImageBlob::getStoreKey)
+                    .orElseGet(() -> imageBlobRepository.save(ImageBlob.of(hash, key, contentType, size)).getStoreKey()));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용이 동시에 업로드됨 -> 먼저 기록된 것을 사용
+            return imageBlobRepository.findById(hash).map(ImageBlob::getStoreKey).orElse(key);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void retain(Collection<String> keys) {
+        countByHash(keys).forEach((hash, count) -> {
+            if (imageBlobRepository.addReferences(hash, count) == 0) {
+                throw new IllegalStateException("이미지가 이미 삭제되었습니다. 다시 업로드해 주세요.");
+            }
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Collection<String> keys) {
+        countByHash(keys).forEach(imageBlobRepository::removeReferences);
+    }
+
+    @Override
+    public List<String> claimDeletable(Collection<String> keys) {
+        Set<String> deletable = new LinkedHashSet<>();
+        // 같은 내용을 가리키는 키가 여럿일 수 있음 (확장자만 다른 경우 등)
+        Map<String, Set<String>> keysByHash = new LinkedHashMap<>();
+        for (String key : keys) {
+            String hash = hashOf(key);
+            if (hash == null) {
+                deletable.add(key); // 이전 형식 키는 그대로 삭제
+            } else {
+                keysByHash.computeIfAbsent(hash, h -> new LinkedHashSet<>()).add(key);
+            }
+        }
+        if (keysByHash.isEmpty()) {
+            return List.copyOf(deletable);
+        }
+
+        requiresNew.executeWithoutResult(status -> {
+            Set<String> referenced = new HashSet<>();
+            for (ImageBlob blob : imageBlobRepository.findAllForUpdateByHashIn(keysByHash.keySet())) {
+                if (blob.getRefCount() > 0) {
+                    referenced.add(blob.getHash());
+                } else {
+                    // 기록은 오브젝트 삭제가 끝날 때까지 남겨 둔다 (그 사이 같은 내용의 재업로드가 참조하지 못하도록)
+                    blob.markDeleting();
+                    deletable.add(blob.getStoreKey());
+                }
+            }
+
+            // 아직 참조 중인 내용만 남기고, 참조 0 이거나 기록이 없는(업로드 도중 실패 등) 내용은 삭제 대상
+            keysByHash.forEach((hash, hashKeys) -> {
+                if (!referenced.contains(hash)) {
+                    deletable.addAll(hashKeys);
+                }
+            });
+        });
+        return List.copyOf(deletable);
+    }
+
+    @Override
+    public void deleted(Collection<String> keys) {
+        Set<String> hashes = keys.stream()
+                .map(ImageBlobService::hashOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (!hashes.isEmpty()) {
+            requiresNew.executeWithoutResult(status -> imageBlobRepository.deleteDeletingByHashIn(hashes));
+        }
+    }
+
+    static String hashOf(String key) {
+        return key != null && CONTENT_KEY.matcher(key).matches() ? key.substring(0, 64) : null;
+    }
+
+    private static Map<String, Integer> countByHash(Collection<String> keys) {
+        return keys.stream()
+                .map(ImageBlobService::hashOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.summingInt(hash -> 1)));
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.simpleshop.domain.common;
+
+public enum ImageBlobStatus {
+    STORED,  // 저장됨 (참조 가능)
+    DELETING // 참조 0 이 되어 오브젝트 삭제 중 -> 새 참조를 받지 않음
+}
@@ -0,0 +1,10 @@
+package com.example.simpleshop.domain.common;
+
+/**
+ * 오브젝트 스토어에서 삭제되지 않은 키와 그 사유
+ */
+public record ImageDeleteFailure(
+        String key,
+        String code,
+        String message
+) {}
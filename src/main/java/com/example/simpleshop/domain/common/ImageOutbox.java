@@ -0,0 +1,62 @@
+package com.example.simpleshop.domain.common;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 트랜잭션 커밋 후 오브젝트 스토어에서 삭제할 이미지 (transactional outbox)
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_image_outbox_status_next", columnList = "status, nextAttemptAt"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ImageOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String imageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImageOutboxStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private ImageOutbox(String imageUrl, Instant now) {
+        this.imageUrl = imageUrl;
+        this.status = ImageOutboxStatus.PENDING;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    public static ImageOutbox delete(String imageUrl) {
+        return new ImageOutbox(imageUrl, Instant.now());
+    }
+
+    public void failed(String error, int maxAttempts, Duration backoff) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (attempts >= maxAttempts) {
+            this.status = ImageOutboxStatus.FAILED;
+            return;
+        }
+        this.nextAttemptAt = Instant.now().plus(backoff);
+    }
+}
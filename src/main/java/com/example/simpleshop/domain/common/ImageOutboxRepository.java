@@ -0,0 +1,13 @@
+package com.example.simpleshop.domain.common;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ImageOutboxRepository extends JpaRepository<ImageOutbox, Long> {
+
+    List<ImageOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            ImageOutboxStatus status, Instant now, Pageable pageable);
+}
@@ -0,0 +1,148 @@
+package com.example.simpleshop.domain.common;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이미지 삭제 outbox.
+ * 삭제 의도는 상품 변경과 같은 트랜잭션에 기록하고, 실제 S3 호출은 커밋 이후 백그라운드에서 수행한다.
+ * S3 응답이 느려도 DB 커넥션을 점유하지 않는다.
+ */
+@Slf4j
+@Service
+public class ImageOutboxService {
+
+    private final ImageOutboxRepository imageOutboxRepository;
+    private final ImageService imageService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    // 디스패치는 한 번에 하나만 수행
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "image-outbox");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    public ImageOutboxService(ImageOutboxRepository imageOutboxRepository,
+                              ImageService imageService,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${image.outbox.batch-size:100}") int batchSize,
+                              @Value("${image.outbox.max-attempts:10}") int maxAttempts) {
+        this.imageOutboxRepository = imageOutboxRepository;
+        this.imageService = imageService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 현재 트랜잭션에 삭제 의도를 기록한다. 커밋되면 디스패처가 깨어나 삭제를 수행한다.
+     * 참조 수도 같은 트랜잭션에서 줄이므로, 다른 상품이 같은 내용을 참조 중이면 실제 삭제는 생략된다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueDelete(Collection<String> imageUrls) {
+        imageService.releaseAll(imageUrls);
+
+        List<ImageOutbox> entries = imageUrls.stream()
+                .filter(url -> url != null && !url.isBlank())
+                .map(ImageOutbox::delete)
+                .toList();
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        imageOutboxRepository.saveAll(entries);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                trigger();
+            }
+        });
+    }
+
+    // 커밋 직후 트리거가 유실되거나 실패한 항목의 재시도를 위한 주기적 실행
+    @Scheduled(fixedDelayString = "${image.outbox.poll-interval-ms:30000}")
+    public void trigger() {
+        if (scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::dispatch);
+        }
+    }
+
+    void dispatch() {
+        scheduled.set(false);
+        try {
+            List<ImageOutbox> batch;
+            do {
+                batch = imageOutboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                        ImageOutboxStatus.PENDING, Instant.now(), PageRequest.of(0, batchSize));
+                if (!batch.isEmpty()) {
+                    process(batch);
+                }
+            } while (batch.size() == batchSize);
+        } catch (Exception e) {
+            log.error("이미지 outbox 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void process(List<ImageOutbox> batch) {
+        // S3 호출은 트랜잭션 밖에서 수행 (삭제는 멱등이므로 중복 실행되어도 안전)
+        Map<String, ImageDeleteFailure> failures = imageService.deleteAll(
+                        batch.stream().map(ImageOutbox::getImageUrl).toList())
+                .stream()
+                .collect(Collectors.toMap(ImageDeleteFailure::key, Function.identity(), (a, b) -> a));
+
+        List<Long> completedIds = new ArrayList<>();
+        List<ImageOutbox> retries = new ArrayList<>();
+        for (ImageOutbox entry : batch) {
+            ImageDeleteFailure failure = failures.get(imageService.toKey(entry.getImageUrl()));
+            if (failure == null) {
+                completedIds.add(entry.getId());
+                continue;
+            }
+
+            entry.failed(failure.code() + ": " + failure.message(), maxAttempts, backoff(entry.getAttempts()));
+            retries.add(entry);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!completedIds.isEmpty()) {
+                imageOutboxRepository.deleteAllByIdInBatch(completedIds);
+            }
+            imageOutboxRepository.saveAll(retries);
+        });
+    }
+
+    private Duration backoff(int attempts) {
+        // 1s, 2s, 4s ... 최대 1시간
+        return Duration.ofSeconds(Math.min(1L << Math.min(attempts, 12), 3600L));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+}
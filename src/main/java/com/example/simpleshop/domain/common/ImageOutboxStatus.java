@@ -0,0 +1,6 @@
+package com.example.simpleshop.domain.common;
+
+public enum ImageOutboxStatus {
+    PENDING, // 처리 대기 (재시도 포함)
+    FAILED   // 최대 재시도 횟수 초과
+}
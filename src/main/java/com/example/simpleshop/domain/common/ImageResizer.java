@@ -0,0 +1,72 @@
+package com.example.simpleshop.domain.common;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * 이미지 축소 (가로 기준, 비율 유지).
+ * 큰 폭으로 줄일 때는 절반씩 여러 번 줄여 계단 현상을 줄인다.
+ */
+public final class ImageResizer {
+
+    private ImageResizer() {
+    }
+
+    /**
+     * ImageIO 가 읽을 수 없는 형식이면 null
+     */
+    public static BufferedImage decode(byte[] data) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(data));
+    }
+
+    public static BufferedImage scaleToWidth(BufferedImage source, int width) {
+        if (source.getWidth() <= width) {
+            return source;
+        }
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(currentWidth / 2, width);
+            currentHeight = Math.max(1, (int) Math.round((double) source.getHeight() * currentWidth / source.getWidth()));
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight,
+                    alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth > width);
+
+        return current;
+    }
+
+    /**
+     * 투명도가 있으면 PNG, 없으면 JPEG
+     */
+    public static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, formatOf(image), out);
+        return out.toByteArray();
+    }
+
+    public static String formatOf(BufferedImage image) {
+        return image.getColorModel().hasAlpha() ? "png" : "jpg";
+    }
+
+    public static String contentTypeOf(BufferedImage image) {
+        return image.getColorModel().hasAlpha() ? "image/png" : "image/jpeg";
+    }
+}
@@ -0,0 +1,359 @@
+package com.example.simpleshop.domain.common;
+
+import com.example.simpleshop.domain.product.ProductImage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 이미지 업로드/삭제.
+ * 실제 저장은 ImageStore (S3 또는 로컬 디스크) 가 담당하고, 여기서는 키 생성, 병렬 처리, 메트릭을 맡는다.
+ * 키는 내용의 SHA-256 이므로 같은 이미지는 한 번만 저장되고, 참조가 모두 사라진 뒤에만 삭제된다.
+ */
+@Slf4j
+@Service
+public class ImageService {
+
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
+    // 저장/서빙을 허용하는 이미지 형식 (확장자 -> Content-Type). html, svg 등 스크립트를 담을 수 있는 형식은 받지 않는다
+    private static final Map<String, String> IMAGE_TYPES = Map.of(
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "png", "image/png",
+            "gif", "image/gif",
+            "webp", "image/webp");
+
+    private final ImageStore imageStore;
+    private final ImageBlobRegistry imageBlobRegistry;
+
+    // 동시에 진행되는 저장소 요청 수 제한
+    private final ExecutorService ioExecutor;
+
+    private final Timer uploadTimer;
+    private final Timer deleteTimer;
+    private final Counter uploadedBytes;
+    private final Counter deletedKeys;
+    private final Counter failedDeleteKeys;
+    private final Counter dedupeHits;
+    private final Counter dedupeSkippedBytes;
+
+    public ImageService(ImageStore imageStore,
+                        ImageBlobRegistry imageBlobRegistry,
+                        @Value("${image.max-concurrency:8}") int maxConcurrency,
+                        MeterRegistry meterRegistry) {
+        this.imageStore = imageStore;
+        this.imageBlobRegistry = imageBlobRegistry;
+
+        this.uploadTimer = Timer.builder("image.store.upload")
+                .description("이미지 저장 지연 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.deleteTimer = Timer.builder("image.store.delete")
+                .description("이미지 일괄 삭제 요청(최대 1000개 키) 지연 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.uploadedBytes = Counter.builder("image.store.upload.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.deletedKeys = Counter.builder("image.store.delete.keys")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failedDeleteKeys = Counter.builder("image.store.delete.keys")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.dedupeHits = Counter.builder("image.store.dedupe.hits")
+                .description("이미 저장된 내용이라 업로드를 생략한 횟수")
+                .register(meterRegistry);
+        this.dedupeSkippedBytes = Counter.builder("image.store.dedupe.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "image-io-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public String upload(MultipartFile file) throws IOException {
+        String extension = imageExtension(file.getOriginalFilename(), file.getContentType());
+        // 해시 계산과 업로드에서 각각 스트림을 열어 파일 전체를 메모리에 올리지 않는다
+        String hash;
+        try (InputStream content = file.getInputStream()) {
+            hash = sha256(content);
+        }
+        Optional<String> storedKey = findStoredKey(hash, file.getSize());
+        if (storedKey.isPresent()) {
+            return toUrl(storedKey.get());
+        }
+        try (InputStream content = file.getInputStream()) {
+            return put(hash, contentKey(hash, extension), IMAGE_TYPES.get(extension), content, file.getSize());
+        }
+    }
+
+    // 외부에서 내려받은 이미지 등 메모리에 있는 데이터 업로드
+    public String upload(String originalFilename, String contentType, byte[] data) {
+        String extension = imageExtension(originalFilename, contentType);
+        try {
+            String hash = sha256(new ByteArrayInputStream(data));
+            Optional<String> storedKey = findStoredKey(hash, data.length);
+            if (storedKey.isPresent()) {
+                return toUrl(storedKey.get());
+            }
+            return put(hash, contentKey(hash, extension), IMAGE_TYPES.get(extension), new ByteArrayInputStream(data), data.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 이미 저장된 내용이면 처음 저장된 키 (이번 업로드의 확장자와 다를 수 있음)
+    private Optional<String> findStoredKey(String hash, long size) {
+        Optional<String> storedKey = imageBlobRegistry.findStoreKey(hash);
+        if (storedKey.isPresent()) {
+            dedupeHits.increment();
+            dedupeSkippedBytes.increment(size);
+        }
+        return storedKey;
+    }
+
+    private String put(String hash, String key, String contentType, InputStream content, long size) throws IOException {
+        long start = System.nanoTime();
+        imageStore.put(key, contentType, content, size);
+        uploadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        uploadedBytes.increment(size);
+
+        String storedKey = imageBlobRegistry.registerStored(hash, key, contentType, size);
+        if (!storedKey.equals(key)) {
+            // 같은 내용이 다른 키로 먼저 기록됨 -> 방금 올린 오브젝트는 지우고 기록된 키를 사용
+            imageStore.deleteAll(List.of(key));
+        }
+        return toUrl(storedKey);
+    }
+
+    public byte[] download(String imageUrl) throws IOException {
+        return imageStore.get(toKey(imageUrl));
+    }
+
+    /**
+     * 여러 파일을 병렬로 업로드한다. 반환되는 URL 순서는 요청 순서와 같다.
+     * 하나라도 실패하면 이미 올라간 파일은 삭제하고 예외를 던진다.
+     */
+    public List<String> uploadAll(List<MultipartFile> files) throws IOException {
+        List<CompletableFuture<String>> futures = files.stream()
+                .map(file -> CompletableFuture.supplyAsync(() -> uploadUnchecked(file), ioExecutor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            List<String> uploaded = futures.stream()
+                    .filter(future -> !future.isCompletedExceptionally())
+                    .map(CompletableFuture::join)
+                    .toList();
+            deleteAll(uploaded);
+
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    /**
+     * 상품 이미지가 URL 을 참조하기 시작할 때 호출 (호출자 트랜잭션 안에서)
+     */
+    public void retainAll(Collection<String> imageUrls) {
+        imageBlobRegistry.retain(referencedKeys(imageUrls));
+    }
+
+    /**
+     * 상품 이미지가 URL 참조를 끊을 때 호출 (호출자 트랜잭션 안에서). 실제 삭제는 deleteAll 에서 한다.
+     */
+    public void releaseAll(Collection<String> imageUrls) {
+        imageBlobRegistry.release(referencedKeys(imageUrls));
+    }
+
+    public List<ImageDeleteFailure> imageDelete(List<ProductImage> productImages) {
+        return deleteAll(productImages.stream()
+                .flatMap(image -> image.getAllUrls().stream())
+                .toList());
+    }
+
+    /**
+     * 요청 하나에 최대 1000개 키씩 묶어 삭제한다 (S3 DeleteObjects 한도).
+     * 다른 상품이 아직 참조 중인 내용은 건너뛰고, 삭제되지 않은 키는 실패 목록으로 반환한다.
+     * 지우는 동안 내용은 DELETING 으로 남으므로, 그 사이 같은 내용이 다시 업로드되면 retainAll 에서 실패한다.
+     */
+    public List<ImageDeleteFailure> deleteAll(Collection<String> imageUrls) {
+        List<String> keys = referencedKeys(imageUrls).stream().distinct().toList();
+        if (!keys.isEmpty()) {
+            keys = imageBlobRegistry.claimDeletable(keys);
+        }
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        List<CompletableFuture<List<ImageDeleteFailure>>> futures = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> batch = keys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, keys.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> deleteBatch(batch), ioExecutor));
+        }
+
+        List<ImageDeleteFailure> failures = futures.stream()
+                .map(CompletableFuture::join)
+                .flatMap(List::stream)
+                .toList();
+        failures.forEach(failure ->
+                log.warn("이미지 삭제 실패: {} ({} {})", failure.key(), failure.code(), failure.message()));
+
+        // 키가 모두 지워진 내용만 기록 제거
+        Set<String> failedHashes = failures.stream()
+                .map(failure -> ImageBlobService.hashOf(failure.key()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        List<String> deleted = keys.stream()
+                .filter(key -> !failedHashes.contains(ImageBlobService.hashOf(key)))
+                .toList();
+        if (!deleted.isEmpty()) {
+            imageBlobRegistry.deleted(deleted);
+        }
+        return failures;
+    }
+
+    public List<ImageDeleteFailure> delete(String imageUrl) {
+        return deleteAll(imageUrl == null ? List.of() : List.of(imageUrl));
+    }
+
+    /**
+     * 이미지 URL 에서 저장소 키를 추출한다.
+     */
+    public String toKey(String imageUrl) {
+        return imageStore.toKey(imageUrl);
+    }
+
+    public String toUrl(String key) {
+        return imageStore.toUrl(key);
+    }
+
+    // 같은 내용을 여러 이미지가 참조할 수 있으므로 중복을 제거하지 않는다
+    private List<String> referencedKeys(Collection<String> imageUrls) {
+        return imageUrls.stream()
+                .filter(url -> url != null && !url.isBlank())
+                .map(this::toKey)
+                .toList();
+    }
+
+    private List<ImageDeleteFailure> deleteBatch(List<String> keys) {
+        long start = System.nanoTime();
+        List<ImageDeleteFailure> failures = imageStore.deleteAll(keys);
+        deleteTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        deletedKeys.increment(keys.size() - failures.size());
+        failedDeleteKeys.increment(failures.size());
+        return failures;
+    }
+
+    /**
+     * 키의 확장자로 서빙할 Content-Type. 허용 형식이 아니면 null.
+     */
+    public static String contentTypeOf(String key) {
+        int dot = key.lastIndexOf('.');
+        return dot < 0 ? null : IMAGE_TYPES.get(key.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    // 파일 확장자, 없으면 Content-Type 으로 형식을 정한다. 허용 형식이 아니면 거부
+    static String imageExtension(String originalFilename, String contentType) {
+        int dot = originalFilename == null ? -1 : originalFilename.lastIndexOf('.');
+        if (dot >= 0) {
+            String extension = originalFilename.substring(dot + 1).toLowerCase(Locale.ROOT);
+            if (IMAGE_TYPES.containsKey(extension)) {
+                return extension;
+            }
+        } else if (contentType != null) {
+            String extension = switch (contentType.split(";")[0].trim().toLowerCase(Locale.ROOT)) {
+                case "image/jpeg" -> "jpg";
+                case "image/png" -> "png";
+                case "image/gif" -> "gif";
+                case "image/webp" -> "webp";
+                default -> null;
+            };
+            if (extension != null) {
+                return extension;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + originalFilename);
+    }
+
+    // 키 = SHA-256 + 확장자 (경로, 파일명은 키에 남기지 않음)
+    static String contentKey(String hash, String extension) {
+        return hash + "." + extension;
+    }
+
+    private static String sha256(InputStream content) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdown();
+    }
+
+    private String uploadUnchecked(MultipartFile file) {
+        try {
+            return upload(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.simpleshop.domain.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 이미지 바이트 저장소 (image.store = s3 | local).
+ * 키 생성, 병렬 처리, 메트릭은 ImageService 가 담당한다.
+ */
+public interface ImageStore {
+
+    /**
+     * 스트림을 그대로 저장한다 (전체를 메모리에 올리지 않음).
+     */
+    void put(String key, String contentType, InputStream content, long size) throws IOException;
+
+    byte[] get(String key) throws IOException;
+
+    /**
+     * 삭제하지 못한 키만 반환한다. 한 번에 최대 1000개 키가 전달된다.
+     */
+    List<ImageDeleteFailure> deleteAll(List<String> keys);
+
+    String toUrl(String key);
+
+    String toKey(String url);
+}
@@ -0,0 +1,90 @@
+package com.example.simpleshop.domain.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 디스크 저장소 (단일 서버 / 엣지 배포용).
+ * 파일은 LocalImageController 가 /images/{key} 로 직접 서빙한다.
+ */
+@Component
+@ConditionalOnProperty(name = "image.store", havingValue = "local")
+public class LocalImageStore implements ImageStore {
+
+    private final Path root;
+    private final String urlPrefix;
+
+    public LocalImageStore(@Value("${file.upload-dir}") String uploadDir,
+                           @Value("${image.local.base-url:/images/}") String baseUrl) throws IOException {
+        this.root = Path.of(uploadDir).toAbsolutePath().normalize();
+        this.urlPrefix = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        Files.createDirectories(root);
+    }
+
+    @Override
+    public void put(String key, String contentType, InputStream content, long size) throws IOException {
+        Path target = resolve(key);
+        // 임시 파일에 스트리밍으로 쓴 뒤 이동 -> 쓰는 중인 파일이 서빙되지 않음
+        Path temp = Files.createTempFile(root, ".upload-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public byte[] get(String key) throws IOException {
+        return Files.readAllBytes(resolve(key));
+    }
+
+    @Override
+    public List<ImageDeleteFailure> deleteAll(List<String> keys) {
+        List<ImageDeleteFailure> failures = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException | IllegalArgumentException e) {
+                failures.add(new ImageDeleteFailure(key, e.getClass().getSimpleName(), e.getMessage()));
+            }
+        }
+        return failures;
+    }
+
+    @Override
+    public String toUrl(String key) {
+        return urlPrefix + key;
+    }
+
+    @Override
+    public String toKey(String url) {
+        if (url.startsWith(urlPrefix)) {
+            return url.substring(urlPrefix.length());
+        }
+        return url.substring(url.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * 키에 해당하는 파일 경로. 루트 밖을 가리키는 키(../ 등)는 거부한다.
+     */
+    public Path resolve(String key) {
+        if (key == null || key.isBlank() || key.startsWith(".")) {
+            throw new IllegalArgumentException("잘못된 이미지 키입니다.");
+        }
+        Path path = root.resolve(key).normalize();
+        if (!path.getParent().equals(root)) {
+            throw new IllegalArgumentException("잘못된 이미지 키입니다.");
+        }
+        return path;
+    }
+}
@@ -1,53 +0,0 @@
-package com.example.simpleshop.domain.common;
-
-import com.example.simpleshop.domain.product.ProductImage;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-
-import java.io.IOException;
-import java.util.List;
-
-@RequiredArgsConstructor
-@Service
-public class S3ImageService {
-
-    private final S3Client s3Client;
-    private final String s3Bucket;
-
-    public String upload(MultipartFile file) throws IOException {
-        String filename = System.currentTimeMillis() + "_" + file.getOriginalFilename();
-        PutObjectRequest putRequest = PutObjectRequest.builder()
-                .bucket(s3Bucket)
-                .key(filename)
-                .contentType(file.getContentType())
-                .build();
-
-        s3Client.putObject(putRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
-
-        return "https://" + s3Bucket + ".s3.ap-northeast-2.amazonaws.com/" + filename;
-    }
-
-    public void imageDelete(List<ProductImage> productImages) {
-        productImages.stream()
-                .map(ProductImage::getImageUrl)
-                .forEach(this::delete);
-    }
-
-    public void delete(String imageUrl) {
-        if (imageUrl == null || imageUrl.isBlank()) return;
-        String key = imageUrl.substring(imageUrl.lastIndexOf("/") + 1);
-
-        DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
-                .bucket(s3Bucket)
-                .key(key)
-                .build();
-
-        s3Client.deleteObject(deleteRequest);
-    }
-}
@@ -0,0 +1,90 @@
+package com.example.simpleshop.domain.common;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.InputStream;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "image.store", havingValue = "s3", matchIfMissing = true)
+public class S3ImageStore implements ImageStore {
+
+    private final S3Client s3Client;
+    private final String s3Bucket;
+    private final String urlPrefix;
+
+    public S3ImageStore(S3Client s3Client, String s3Bucket,
+                        @Value("${cloud.aws.region:ap-northeast-2}") String region) {
+        this.s3Client = s3Client;
+        this.s3Bucket = s3Bucket;
+        this.urlPrefix = "https://" + s3Bucket + ".s3." + region + ".amazonaws.com/";
+    }
+
+    @Override
+    public void put(String key, String contentType, InputStream content, long size) {
+        PutObjectRequest putRequest = PutObjectRequest.builder()
+                .bucket(s3Bucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+        s3Client.putObject(putRequest, RequestBody.fromInputStream(content, size));
+    }
+
+    @Override
+    public byte[] get(String key) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(s3Bucket)
+                .key(key)
+                .build();
+        return s3Client.getObjectAsBytes(request).asByteArray();
+    }
+
+    @Override
+    public List<ImageDeleteFailure> deleteAll(List<String> keys) {
+        DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                .bucket(s3Bucket)
+                .delete(Delete.builder()
+                        .objects(keys.stream()
+                                .map(key -> ObjectIdentifier.builder().key(key).build())
+                                .toList())
+                        .quiet(true) // 실패한 키만 응답에 포함
+                        .build())
+                .build();
+
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(request);
+            return response.errors().stream()
+                    .map(error -> new ImageDeleteFailure(error.key(), error.code(), error.message()))
+                    .toList();
+        } catch (SdkException e) {
+            return keys.stream()
+                    .map(key -> new ImageDeleteFailure(key, "RequestFailed", e.getMessage()))
+                    .toList();
+        }
+    }
+
+    @Override
+    public String toUrl(String key) {
+        return urlPrefix + key;
+    }
+
+    @Override
+    public String toKey(String url) {
+        if (url.startsWith(urlPrefix)) {
+            return url.substring(urlPrefix.length());
+        }
+        // 다른 형식의 URL (예: 리전 없는 엔드포인트) 은 마지막 경로만 사용
+        return url.substring(url.lastIndexOf('/') + 1);
+    }
+}
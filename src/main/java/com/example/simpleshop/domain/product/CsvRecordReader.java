@@ -0,0 +1,97 @@
+package com.example.simpleshop.domain.product;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 를 한 레코드씩 읽는다 (따옴표 안의 쉼표/줄바꿈, "" 이스케이프 지원).
+ * 파일 전체를 메모리에 올리지 않는다.
+ */
+final class CsvRecordReader implements Closeable {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private int pushedBack = NONE;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * 다음 레코드의 필드 목록. 파일 끝이면 null. 빈 줄은 건너뛴다.
+     */
+    List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean started = false;
+
+        int c;
+        while ((c = read()) != -1) {
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                } else {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pushedBack = next;
+                    }
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    quoted = true;
+                    started = true;
+                }
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    started = true;
+                }
+                case '\r' -> {
+                    // \r\n 의 \r 은 무시
+                }
+                case '\n' -> {
+                    if (!started && field.isEmpty()) {
+                        continue;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                }
+                default -> {
+                    field.append((char) c);
+                    started = true;
+                }
+            }
+        }
+
+        if (!started && field.isEmpty()) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != NONE) {
+            int c = pushedBack;
+            pushedBack = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
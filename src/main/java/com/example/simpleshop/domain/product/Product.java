@@ -3,16 +3,26 @@ package com.example.simpleshop.domain.product;
 import com.example.simpleshop.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        // 가격 정렬 + id tie-break (커서 페이징 priceAsc / priceDesc)
+        @Index(name = "idx_product_price_id", columnList = "price, id")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 insert 마다 즉시 실행되어 JDBC 배치가 꺼지므로 pooled 시퀀스 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -23,6 +33,7 @@ public class Product {
     private int price;
 
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product-images")
     @OrderBy("imageOrder ASC") // ✅ 자동 정렬
     private List<ProductImage> images = new ArrayList<>();
 
@@ -30,6 +41,10 @@ public class Product {
     @ManyToOne(fetch = FetchType.LAZY)
     private User writer;
 
+    // 수정될 때마다 증가 (ETag, 낙관적 락)
+    @Version
+    private Long version;
+
     @Builder
     public Product(String name, String description, int price, User writer) {
         this.name = name;
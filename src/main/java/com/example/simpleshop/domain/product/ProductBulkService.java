@@ -0,0 +1,201 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.domain.user.UserRepository;
+import com.example.simpleshop.dto.product.ProductBulkItemResult;
+import com.example.simpleshop.dto.product.ProductBulkResponse;
+import com.example.simpleshop.dto.product.ProductBulkUpdateRequest;
+import com.example.simpleshop.dto.product.ProductRequest;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 일괄 등록/수정.
+ * 요청을 chunk-size 단위로 나눠 청크마다 한 트랜잭션에서 JDBC 배치로 반영한다.
+ * 검증 실패 항목은 건너뛰고, 청크 반영이 실패하면 해당 청크의 항목만 실패로 기록한다.
+ */
+@Slf4j
+@Timed(value = "product.bulk", histogram = true)
+@Service
+public class ProductBulkService {
+
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final ProductCache productCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public ProductBulkService(ProductRepository productRepository,
+                              UserRepository userRepository,
+                              ProductCache productCache,
+                              ApplicationEventPublisher eventPublisher,
+                              TransactionTemplate transactionTemplate,
+                              EntityManager entityManager,
+                              @Value("${product.bulk.chunk-size:500}") int chunkSize,
+                              @Value("${product.bulk.max-items:10000}") int maxItems) {
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.productCache = productCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public ProductBulkResponse createAll(List<ProductRequest> requests) {
+        checkSize(requests);
+        long start = System.nanoTime();
+        Long userId = getCurrentUserId();
+        ProductBulkItemResult[] results = new ProductBulkItemResult[requests.size()];
+
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, requests.size());
+
+            // 검증 통과 항목만 청크에 포함
+            List<Integer> indexes = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                String error = validate(requests.get(i).name(), requests.get(i).price());
+                if (error != null) {
+                    results[i] = ProductBulkItemResult.failure(i, null, error);
+                } else {
+                    indexes.add(i);
+                }
+            }
+            if (indexes.isEmpty()) {
+                continue;
+            }
+
+            try {
+                List<Product> saved = transactionTemplate.execute(status -> {
+                    User writer = userRepository.getReferenceById(userId);
+                    List<Product> products = indexes.stream()
+                            .map(i -> Product.builder()
+                                    .name(requests.get(i).name())
+                                    .description(requests.get(i).description())
+                                    .price(requests.get(i).price())
+                                    .writer(writer)
+                                    .build())
+                            .toList();
+
+                    // 시퀀스에서 id 를 미리 받아 두고 flush 시점에 batch insert
+                    productRepository.saveAll(products);
+                    products.forEach(product -> eventPublisher.publishEvent(ProductChangedEvent.saved(product)));
+                    flushAndClear();
+                    return products;
+                });
+                for (int k = 0; k < indexes.size(); k++) {
+                    int i = indexes.get(k);
+                    results[i] = ProductBulkItemResult.success(i, saved.get(k).getId());
+                }
+            } catch (RuntimeException e) {
+                log.warn("상품 일괄 등록 청크 실패 ({} ~ {}): {}", from, to - 1, e.getMessage());
+                indexes.forEach(i -> results[i] = ProductBulkItemResult.failure(i, null, "저장에 실패했습니다."));
+            }
+        }
+
+        return ProductBulkResponse.of(Arrays.asList(results), System.nanoTime() - start);
+    }
+
+    public ProductBulkResponse updateAll(List<ProductBulkUpdateRequest> requests) {
+        checkSize(requests);
+        long start = System.nanoTime();
+        Long userId = getCurrentUserId();
+        ProductBulkItemResult[] results = new ProductBulkItemResult[requests.size()];
+
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, requests.size());
+
+            Map<Long, Integer> indexById = new HashMap<>();
+            for (int i = from; i < to; i++) {
+                ProductBulkUpdateRequest request = requests.get(i);
+                String error = request.id() == null ? "상품 ID는 필수입니다." : validate(request.name(), request.price());
+                if (error == null && indexById.containsKey(request.id())) {
+                    error = "같은 상품이 중복 요청되었습니다.";
+                }
+                if (error != null) {
+                    results[i] = ProductBulkItemResult.failure(i, request.id(), error);
+                } else {
+                    indexById.put(request.id(), i);
+                }
+            }
+            if (indexById.isEmpty()) {
+                continue;
+            }
+
+            try {
+                List<Integer> updated = transactionTemplate.execute(status -> {
+                    List<Integer> succeeded = new ArrayList<>();
+                    Map<Long, Product> found = new HashMap<>();
+                    productRepository.findAllById(indexById.keySet()).forEach(p -> found.put(p.getId(), p));
+
+                    indexById.forEach((id, i) -> {
+                        Product product = found.get(id);
+                        if (product == null) {
+                            results[i] = ProductBulkItemResult.failure(i, id, "존재하지 않는 상품입니다.");
+                        } else if (!product.getWriter().getId().equals(userId)) {
+                            results[i] = ProductBulkItemResult.failure(i, id, "작성자만 수정할 수 있습니다.");
+                        } else {
+                            ProductBulkUpdateRequest request = requests.get(i);
+                            product.update(request.name(), request.description(), request.price());
+                            productCache.evictAfterCommit(id);
+                            eventPublisher.publishEvent(ProductChangedEvent.saved(product));
+                            succeeded.add(i);
+                        }
+                    });
+
+                    // dirty checking 결과를 batch update 로 반영
+                    flushAndClear();
+                    return succeeded;
+                });
+                updated.forEach(i -> results[i] = ProductBulkItemResult.success(i, requests.get(i).id()));
+            } catch (RuntimeException e) {
+                log.warn("상품 일괄 수정 청크 실패 ({} ~ {}): {}", from, to - 1, e.getMessage());
+                indexById.forEach((id, i) -> results[i] = ProductBulkItemResult.failure(i, id, "저장에 실패했습니다."));
+            }
+        }
+
+        return ProductBulkResponse.of(Arrays.asList(results), System.nanoTime() - start);
+    }
+
+    private void checkSize(List<?> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > maxItems) {
+            throw new IllegalArgumentException("일괄 처리 항목은 1~" + maxItems + "개여야 합니다.");
+        }
+    }
+
+    private static String validate(String name, Integer price) {
+        if (name == null || name.isBlank()) {
+            return "상품명은 필수입니다.";
+        }
+        if (price == null || price < 0) {
+            return "가격은 0 이상이어야 합니다.";
+        }
+        return null;
+    }
+
+    // 청크가 끝나면 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Long getCurrentUserId() {
+        // SecurityContext 기반 인증 처리 필요 (구현 생략)
+        return 1L; // 테스트용 사용자 ID
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.dto.product.ProductResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 조회용 read-through 캐시 (id -> ProductResponse)
+ */
+@Component
+public class ProductCache implements MeterBinder {
+
+    private final Cache<Long, ProductResponse> cache;
+
+    // 무효화가 일어날 때마다 증가 -> 조회 중에 커밋된 변경이 있으면 적재한 값을 버림
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // 같은 상품을 기반으로 만든 다른 캐시 (직렬화된 응답 등) 도 함께 무효화
+    private final List<Consumer<Long>> evictionListeners = new CopyOnWriteArrayList<>();
+
+    public ProductCache(@Value("${product.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${product.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<ProductResponse> get(Long id, Function<Long, Optional<ProductResponse>> loader) {
+        ProductResponse cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long stamp = invalidations.get();
+        Optional<ProductResponse> loaded = loader.apply(id);
+        loaded.ifPresent(response -> {
+            cache.put(id, response);
+            // 적재 전후로 무효화가 있었다면 오래된 값일 수 있으므로 제거
+            if (invalidations.get() != stamp) {
+                cache.invalidate(id);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에만 무효화한다. 롤백되면 캐시는 그대로 유지된다.
+     */
+    public void evictAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id);
+            }
+        });
+    }
+
+    public void evict(Long id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+        evictionListeners.forEach(listener -> listener.accept(id));
+    }
+
+    public void onEvict(Consumer<Long> listener) {
+        evictionListeners.add(listener);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size ...
+        CaffeineCacheMetrics.monitor(registry, cache, "product");
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.simpleshop.domain.product;
+
+/**
+ * 상품 생성/수정/삭제 이벤트. 리스너는 커밋 이후(@TransactionalEventListener)에 처리한다.
+ */
+public record ProductChangedEvent(ProductSnapshot product, boolean deleted) {
+
+    public static ProductChangedEvent saved(Product product) {
+        return new ProductChangedEvent(ProductSnapshot.from(product), false);
+    }
+
+    public static ProductChangedEvent deleted(Product product) {
+        return new ProductChangedEvent(ProductSnapshot.from(product), true);
+    }
+}
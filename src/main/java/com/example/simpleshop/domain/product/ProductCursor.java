@@ -0,0 +1,45 @@
+package com.example.simpleshop.domain.product;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징의 마지막 위치 (가격 정렬은 price + id, 최신순은 id)
+ */
+public record ProductCursor(Integer price, Long id) {
+
+    public static ProductCursor of(Product product, String sortBy) {
+        return isPriceSort(sortBy)
+                ? new ProductCursor(product.getPrice(), product.getId())
+                : new ProductCursor(null, product.getId());
+    }
+
+    public static ProductCursor decode(String cursor, String sortBy) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!isPriceSort(sortBy)) {
+                return new ProductCursor(null, Long.parseLong(raw));
+            }
+
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("정렬 기준과 맞지 않는 cursor 입니다.");
+            }
+            return new ProductCursor(
+                    Integer.parseInt(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 cursor 입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String raw = price == null ? String.valueOf(id) : price + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static boolean isPriceSort(String sortBy) {
+        return "priceAsc".equals(sortBy) || "priceDesc".equals(sortBy);
+    }
+}
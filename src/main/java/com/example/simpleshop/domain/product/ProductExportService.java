@@ -0,0 +1,151 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.dto.product.ProductImageResponse;
+import com.example.simpleshop.dto.product.ProductResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 전체 상품 내보내기 (NDJSON / CSV).
+ * 한 트랜잭션 안의 단일 쿼리를 커서로 읽으며 상품 단위로 바로 출력하므로
+ * 카탈로그 크기와 무관하게 메모리 사용량이 일정하고, 결과는 같은 시점의 스냅샷이다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+    private static final String CSV_HEADER = "id,name,description,price,writerId,version,imageUrls";
+
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportNdjson(OutputStream out) throws IOException {
+        // 응답 스트림은 컨테이너가 닫도록 AUTO_CLOSE_TARGET 비활성화
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            long count = forEachProduct(product -> {
+                try {
+                    writer.write(product);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, writer::flush);
+            if (count > 0) {
+                writer.flush();
+                out.write('\n');
+            }
+            return count;
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = forEachProduct(product -> {
+            try {
+                writer.write(product.id() + "," + csv(product.name()) + "," + csv(product.description()) + ","
+                        + product.price() + "," + product.writerId() + "," + product.version() + ","
+                        + csv(product.images().stream().map(ProductImageResponse::url).collect(Collectors.joining("|")))
+                        + "\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, writer::flush);
+        writer.flush();
+        return count;
+    }
+
+    // (상품, 이미지) 행을 상품 id 순으로 읽어 상품이 바뀔 때마다 하나씩 내보냄
+    private long forEachProduct(Consumer<ProductResponse> sink, Flusher flusher) throws IOException {
+        long count = 0;
+        try (Stream<Object[]> rows = productRepository.streamAllForExport()) {
+            Iterator<Object[]> iterator = rows.iterator();
+            Object[] head = null;
+            List<ProductImageResponse> images = new ArrayList<>();
+
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                if (head != null && !head[0].equals(row[0])) {
+                    sink.accept(toDto(head, images));
+                    images = new ArrayList<>();
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        flusher.flush();
+                    }
+                }
+                head = row;
+                if (row[6] != null) {
+                    images.add(ProductImageResponse.builder()
+                            .id((Long) row[6])
+                            .url((String) row[7])
+                            .order((Integer) row[8])
+                            .thumbnailUrl((String) row[9])
+                            .mediumUrl((String) row[10])
+                            .build());
+                }
+            }
+            if (head != null) {
+                sink.accept(toDto(head, images));
+                count++;
+            }
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등
+            log.warn("상품 내보내기 중단: {}건 전송 후 {}", count, e.getCause().getMessage());
+            throw e.getCause();
+        }
+        return count;
+    }
+
+    private static ProductResponse toDto(Object[] row, List<ProductImageResponse> images) {
+        return ProductResponse.builder()
+                .id((Long) row[0])
+                .name((String) row[1])
+                .description((String) row[2])
+                .price((Integer) row[3])
+                .writerId((Long) row[4])
+                .version((Long) row[5])
+                .images(images)
+                .build();
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface Flusher {
+        void flush() throws IOException;
+    }
+}
@@ -2,8 +2,15 @@ package com.example.simpleshop.domain.product;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "product-image")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProductImage {
@@ -14,6 +21,11 @@ public class ProductImage {
 
     private String imageUrl;
 
+    // 백그라운드에서 생성되는 축소본 (생성 전에는 null)
+    private String thumbnailUrl;
+
+    private String mediumUrl;
+
     private int imageOrder;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -30,4 +42,17 @@ public class ProductImage {
     public void updateOrder(int order) {
         this.imageOrder = order;
     }
+
+    public void updateVariants(String thumbnailUrl, String mediumUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumUrl = mediumUrl;
+    }
+
+    // 원본 + 축소본 (삭제 시 함께 정리)
+    public List<String> getAllUrls() {
+        return Stream.of(imageUrl, thumbnailUrl, mediumUrl)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
 }
@@ -0,0 +1,8 @@
+package com.example.simpleshop.domain.product;
+
+public record ProductImageRef(Long id, String imageUrl, Long productId) {
+
+    public static ProductImageRef from(ProductImage image) {
+        return new ProductImageRef(image.getId(), image.getImageUrl(), image.getProduct().getId());
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.simpleshop.domain.product;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
+
+    // 축소본이 아직 없는 이미지 (백그라운드 재시도용)
+    @Query("select new com.example.simpleshop.domain.product.ProductImageRef(i.id, i.imageUrl, i.product.id) " +
+            "from ProductImage i where i.thumbnailUrl is null order by i.id asc")
+    List<ProductImageRef> findWithoutVariants(Pageable pageable);
+}
@@ -0,0 +1,191 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.domain.common.ImageResizer;
+import com.example.simpleshop.domain.common.ImageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 이미지 축소본(thumbnail / medium) 생성.
+ * 업로드 요청은 원본 저장까지만 기다리고, 축소는 커밋 이후 제한된 워커 풀에서 수행한다.
+ * 큐가 가득 차 밀린 이미지나 실패한 이미지는 주기적인 backfill 에서 다시 처리한다.
+ */
+@Slf4j
+@Service
+public class ProductImageVariantService {
+
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ImageService imageService;
+    private final ProductCache productCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int thumbnailWidth;
+    private final int mediumWidth;
+    private final int queueCapacity;
+
+    private final ThreadPoolExecutor workers;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Timer generateTimer;
+    private final Counter failures;
+
+    public ProductImageVariantService(ProductRepository productRepository,
+                                      ProductImageRepository productImageRepository,
+                                      ImageService imageService,
+                                      ProductCache productCache,
+                                      TransactionTemplate transactionTemplate,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${image.variant.thumbnail-width:200}") int thumbnailWidth,
+                                      @Value("${image.variant.medium-width:800}") int mediumWidth,
+                                      @Value("${image.variant.workers:2}") int workers,
+                                      @Value("${image.variant.queue-capacity:200}") int queueCapacity) {
+        this.productRepository = productRepository;
+        this.productImageRepository = productImageRepository;
+        this.imageService = imageService;
+        this.productCache = productCache;
+        this.transactionTemplate = transactionTemplate;
+        this.thumbnailWidth = thumbnailWidth;
+        this.mediumWidth = mediumWidth;
+        this.queueCapacity = queueCapacity;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.generateTimer = Timer.builder("image.variant.generate")
+                .description("원본 다운로드 + 축소 + 업로드 시간")
+                .register(meterRegistry);
+        this.failures = Counter.builder("image.variant.failures").register(meterRegistry);
+        meterRegistry.gauge("image.variant.queue", this.workers, executor -> executor.getQueue().size());
+    }
+
+    @TransactionalEventListener
+    public void onImagesAdded(ProductImagesAddedEvent event) {
+        event.images().stream()
+                .map(ProductImageRef::from)
+                .forEach(this::submit);
+    }
+
+    // 큐에서 밀렸거나 실패한 이미지 재처리
+    @Scheduled(fixedDelayString = "${image.variant.backfill-interval-ms:300000}")
+    public void backfill() {
+        if (!workers.getQueue().isEmpty()) {
+            return;
+        }
+        productImageRepository.findWithoutVariants(PageRequest.of(0, queueCapacity))
+                .forEach(this::submit);
+    }
+
+    private void submit(ProductImageRef image) {
+        if (!inFlight.add(image.id())) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    generateTimer.record(() -> generate(image));
+                } catch (RuntimeException e) {
+                    failures.increment();
+                    log.warn("이미지 축소본 생성 실패: imageId={} ({})", image.id(), e.getMessage());
+                } finally {
+                    inFlight.remove(image.id());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 참 -> backfill 에서 처리
+            inFlight.remove(image.id());
+        }
+    }
+
+    void generate(ProductImageRef image) {
+        String thumbnailUrl;
+        String mediumUrl;
+        List<String> uploaded = new ArrayList<>();
+
+        try {
+            BufferedImage original = ImageResizer.decode(imageService.download(image.imageUrl()));
+            if (original == null) {
+                // 읽을 수 없는 형식은 원본을 그대로 사용 (재시도하지 않음)
+                thumbnailUrl = image.imageUrl();
+                mediumUrl = image.imageUrl();
+            } else {
+                thumbnailUrl = variant(image, original, thumbnailWidth, "thumb", uploaded);
+                mediumUrl = variant(image, original, mediumWidth, "medium", uploaded);
+            }
+        } catch (IOException e) {
+            imageService.deleteAll(uploaded);
+            throw new IllegalStateException(e.getMessage(), e);
+        } catch (RuntimeException e) {
+            imageService.deleteAll(uploaded);
+            throw e;
+        }
+
+        Boolean stored = transactionTemplate.execute(status -> productRepository.findForUpdateById(image.productId())
+                // 응답 ETag(id-version)가 바뀌도록 상품 version 증가. 동시 수정과 겹쳐 실패하면 backfill 에서 다시 처리
+                .flatMap(product -> productImageRepository.findById(image.id()))
+                .filter(found -> found.getImageUrl().equals(image.imageUrl()))
+                .map(found -> {
+                    List<String> before = found.getAllUrls();
+                    found.updateVariants(thumbnailUrl, mediumUrl);
+                    // 새로 붙은 축소본만 참조 추가 (원본과 같은 URL 은 이미 참조 중)
+                    imageService.retainAll(found.getAllUrls().stream()
+                            .filter(url -> !before.contains(url))
+                            .toList());
+                    productCache.evictAfterCommit(image.productId());
+                    return true;
+                })
+                .orElse(false));
+
+        // 그 사이 이미지가 삭제됨
+        if (!Boolean.TRUE.equals(stored)) {
+            imageService.deleteAll(uploaded);
+        }
+    }
+
+    // 원본이 이미 충분히 작으면 원본 URL 사용
+    private String variant(ProductImageRef image, BufferedImage original, int width, String suffix,
+                           List<String> uploaded) throws IOException {
+        if (original.getWidth() <= width) {
+            return image.imageUrl();
+        }
+
+        BufferedImage scaled = ImageResizer.scaleToWidth(original, width);
+        String url = imageService.upload(
+                image.id() + "_" + suffix + "." + ImageResizer.formatOf(scaled),
+                ImageResizer.contentTypeOf(scaled),
+                ImageResizer.encode(scaled));
+        uploaded.add(url);
+        return url;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.simpleshop.domain.product;
+
+import java.util.List;
+
+/**
+ * 새 이미지가 저장됨 (축소본 생성 대상).
+ * IDENTITY id 는 flush 시점에 채워지므로 커밋 이후에 읽는다.
+ */
+public record ProductImagesAddedEvent(List<ProductImage> images) {
+}
@@ -0,0 +1,92 @@
+package com.example.simpleshop.domain.product;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * CSV 상품 가져오기 작업.
+ * committedRows 는 상품 저장과 같은 트랜잭션에서 갱신되므로, 재개 시 이 행 수만큼 건너뛰면 된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String fileName;
+
+    @Column(nullable = false, length = 1024)
+    private String storedPath;
+
+    @Column(nullable = false)
+    private Long writerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProductImportStatus status;
+
+    // 처리(커밋)된 데이터 행 수 (성공 + 실패)
+    private long committedRows;
+
+    private long succeededRows;
+
+    private long failedRows;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    private ProductImportJob(String fileName, String storedPath, Long writerId) {
+        this.fileName = fileName;
+        this.storedPath = storedPath;
+        this.writerId = writerId;
+        this.status = ProductImportStatus.RUNNING;
+        this.createdAt = Instant.now();
+        this.updatedAt = createdAt;
+    }
+
+    public static ProductImportJob start(String fileName, String storedPath, Long writerId) {
+        return new ProductImportJob(fileName, storedPath, writerId);
+    }
+
+    public void chunkCommitted(int rows, int succeeded, int failed, String error) {
+        this.committedRows += rows;
+        this.succeededRows += succeeded;
+        this.failedRows += failed;
+        if (error != null) {
+            this.lastError = truncate(error);
+        }
+        this.updatedAt = Instant.now();
+    }
+
+    public void restart() {
+        this.status = ProductImportStatus.RUNNING;
+        this.updatedAt = Instant.now();
+    }
+
+    public void complete() {
+        this.status = ProductImportStatus.COMPLETED;
+        this.updatedAt = Instant.now();
+    }
+
+    public void fail(String error) {
+        this.status = ProductImportStatus.FAILED;
+        this.lastError = truncate(error);
+        this.updatedAt = Instant.now();
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.simpleshop.domain.product;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ProductImportJobRepository extends JpaRepository<ProductImportJob, Long> {
+}
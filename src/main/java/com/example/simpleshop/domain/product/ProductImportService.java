@@ -0,0 +1,536 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.domain.common.ImageService;
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.domain.user.UserRepository;
+import com.example.simpleshop.dto.product.ProductImportResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * CSV 상품 가져오기.
+ * 읽기 스레드가 업로드 파일을 한 행씩 파싱해 batch-size 단위로 크기가 제한된 큐에 넣고 (큐가 차면 대기),
+ * 저장 스레드는 배치마다 이미지 URL 을 제한된 워커 풀로 내려받아 업로드한 뒤 한 트랜잭션으로 저장한다.
+ * 메모리 사용량은 파일 크기가 아니라 batch-size x queue-capacity 에 비례한다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    // 헤더: name,price 필수 / description, imageUrls(| 구분) 선택 (내보내기 CSV 와 호환)
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String PRICE = "price";
+    private static final String IMAGE_URLS = "imageurls";
+
+    private static final int MAX_IMAGE_BYTES = 10 * 1024 * 1024;
+
+    private final ProductRepository productRepository;
+    private final ProductImportJobRepository productImportJobRepository;
+    private final UserRepository userRepository;
+    private final ImageService imageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Path importDir;
+    private final int batchSize;
+    private final int queueCapacity;
+    // 비어 있으면 공인 주소의 모든 호스트 허용
+    private final Set<String> allowedImageHosts;
+
+    private final ExecutorService jobExecutor;
+    private final ExecutorService imageWorkers;
+    private final HttpClient httpClient;
+    private final Map<Long, Progress> active = new ConcurrentHashMap<>();
+
+    public ProductImportService(ProductRepository productRepository,
+                                ProductImportJobRepository productImportJobRepository,
+                                UserRepository userRepository,
+                                ImageService imageService,
+                                ApplicationEventPublisher eventPublisher,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${product.import.dir:${java.io.tmpdir}/simpleshop-import}") String importDir,
+                                @Value("${product.import.batch-size:500}") int batchSize,
+                                @Value("${product.import.queue-capacity:4}") int queueCapacity,
+                                @Value("${product.import.image-workers:8}") int imageWorkers,
+                                @Value("${product.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                                @Value("${product.import.allowed-image-hosts:}") List<String> allowedImageHosts) {
+        this.productRepository = productRepository;
+        this.productImportJobRepository = productImportJobRepository;
+        this.userRepository = userRepository;
+        this.imageService = imageService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.importDir = Path.of(importDir);
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.allowedImageHosts = allowedImageHosts.stream()
+                .map(String::trim)
+                .filter(host -> !host.isEmpty())
+                .map(host -> host.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+
+        this.jobExecutor = Executors.newFixedThreadPool(maxConcurrentJobs, daemon("product-import-"));
+        this.imageWorkers = Executors.newFixedThreadPool(imageWorkers, daemon("product-import-image-"));
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                // 리다이렉트로 내부 주소 검사를 우회하지 못하도록 따라가지 않음
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
+
+    /**
+     * 업로드 파일을 작업 디렉터리로 스트리밍 복사한 뒤 백그라운드 작업을 시작한다.
+     */
+    public ProductImportResponse start(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("CSV 파일이 비어 있습니다.");
+        }
+
+        Files.createDirectories(importDir);
+        Path stored = importDir.resolve(UUID.randomUUID() + ".csv");
+        try (InputStream in = file.getInputStream()) {
+            Files.copy(in, stored);
+        }
+
+        ProductImportJob job = productImportJobRepository.save(
+                ProductImportJob.start(file.getOriginalFilename(), stored.toString(), getCurrentUserId()));
+        launch(job.getId());
+        return find(job.getId());
+    }
+
+    /**
+     * 실패했거나 서버 재시작으로 중단된 작업을 마지막으로 커밋된 청크 다음부터 다시 실행한다.
+     */
+    public ProductImportResponse resume(Long jobId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            ProductImportJob job = findOwnJob(jobId);
+            if (job.getStatus() == ProductImportStatus.COMPLETED) {
+                throw new IllegalStateException("이미 완료된 작업입니다.");
+            }
+            if (active.containsKey(jobId)) {
+                throw new IllegalStateException("이미 진행 중인 작업입니다.");
+            }
+            job.restart();
+        });
+        launch(jobId);
+        return find(jobId);
+    }
+
+    public ProductImportResponse find(Long jobId) {
+        ProductImportJob job = findOwnJob(jobId);
+        Progress progress = active.get(jobId);
+
+        return new ProductImportResponse(
+                job.getId(),
+                job.getFileName(),
+                job.getStatus().name(),
+                job.getCommittedRows(),
+                job.getSucceededRows(),
+                job.getFailedRows(),
+                progress != null,
+                progress != null ? progress.rowsPerSecond() : 0,
+                job.getLastError(),
+                job.getCreatedAt(),
+                job.getUpdatedAt());
+    }
+
+    // 다른 사용자의 작업은 존재 여부도 드러내지 않음
+    private ProductImportJob findOwnJob(Long jobId) {
+        return productImportJobRepository.findById(jobId)
+                .filter(job -> job.getWriterId().equals(getCurrentUserId()))
+                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 가져오기 작업입니다."));
+    }
+
+    private void launch(Long jobId) {
+        Progress progress = new Progress();
+        if (active.putIfAbsent(jobId, progress) != null) {
+            throw new IllegalStateException("이미 진행 중인 작업입니다.");
+        }
+        try {
+            jobExecutor.execute(() -> run(jobId, progress));
+        } catch (RejectedExecutionException e) {
+            active.remove(jobId);
+            throw new IllegalStateException("가져오기 작업을 시작할 수 없습니다.", e);
+        }
+    }
+
+    private void run(Long jobId, Progress progress) {
+        Thread reader = null;
+        try {
+            ProductImportJob job = productImportJobRepository.findById(jobId).orElseThrow();
+            Path file = Path.of(job.getStoredPath());
+
+            // 큐 크기로 읽기 속도를 저장 속도에 맞춤 (back-pressure)
+            BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(queueCapacity);
+            long skip = job.getCommittedRows();
+            reader = new Thread(() -> read(file, skip, queue), "product-import-reader-" + jobId);
+            reader.setDaemon(true);
+            reader.start();
+
+            while (true) {
+                Batch batch = queue.take();
+                if (batch.error() != null) {
+                    throw new IllegalStateException(batch.error());
+                }
+                if (batch.rows().isEmpty()) {
+                    break;
+                }
+                persist(jobId, job.getWriterId(), batch.rows());
+                progress.rows.addAndGet(batch.rows().size());
+            }
+
+            transactionTemplate.executeWithoutResult(status ->
+                    productImportJobRepository.findById(jobId).orElseThrow().complete());
+            Files.deleteIfExists(file);
+            log.info("상품 가져오기 완료: job={}, {}행, {} rows/s", jobId, progress.rows.get(),
+                    String.format("%.1f", progress.rowsPerSecond()));
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            log.warn("상품 가져오기 실패: job={}", jobId, e);
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        productImportJobRepository.findById(jobId).orElseThrow().fail(e.getMessage()));
+            } catch (RuntimeException ex) {
+                log.warn("가져오기 작업 상태 저장 실패: job={}", jobId, ex);
+            }
+        } finally {
+            if (reader != null) {
+                reader.interrupt();
+            }
+            active.remove(jobId);
+        }
+    }
+
+    // 읽기 단계: 이미 커밋된 행은 건너뛰고 batch-size 단위로 큐에 전달
+    private void read(Path file, long skip, BlockingQueue<Batch> queue) {
+        try {
+            Batch last;
+            try (CsvRecordReader csv = new CsvRecordReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+                Map<String, Integer> columns = header(csv.next());
+
+                long rowNumber = 0;
+                List<ImportRow> rows = new ArrayList<>(batchSize);
+                List<String> record;
+                while ((record = csv.next()) != null) {
+                    if (++rowNumber <= skip) {
+                        continue;
+                    }
+                    rows.add(ImportRow.parse(rowNumber, record, columns));
+                    if (rows.size() == batchSize) {
+                        queue.put(new Batch(rows, null));
+                        rows = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!rows.isEmpty()) {
+                    queue.put(new Batch(rows, null));
+                }
+                last = new Batch(List.of(), null);
+            } catch (IOException | RuntimeException e) {
+                last = new Batch(List.of(), "CSV 읽기 실패: " + e.getMessage());
+            }
+            queue.put(last);
+        } catch (InterruptedException e) {
+            // 저장 단계가 실패해 작업이 중단됨
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 저장 단계: 이미지 업로드 후 배치 하나를 한 트랜잭션으로 저장하고 committedRows 를 함께 갱신
+    private void persist(Long jobId, Long writerId, List<ImportRow> rows) {
+        Map<ImportRow, CompletableFuture<List<String>>> images = new HashMap<>();
+        for (ImportRow row : rows) {
+            if (row.error() == null && !row.imageUrls().isEmpty()) {
+                images.put(row, fetchAll(row.imageUrls()));
+            }
+        }
+
+        List<String> uploaded = new ArrayList<>();
+        Map<ImportRow, List<String>> valid = new LinkedHashMap<>();
+        String lastError = null;
+        int failed = 0;
+
+        for (ImportRow row : rows) {
+            String error = row.error();
+            List<String> imageUrls = List.of();
+            if (error == null && images.containsKey(row)) {
+                try {
+                    imageUrls = images.get(row).join();
+                    uploaded.addAll(imageUrls);
+                } catch (RuntimeException e) {
+                    error = "이미지를 가져오지 못했습니다: " + rootMessage(e);
+                }
+            }
+            if (error != null) {
+                failed++;
+                lastError = row.rowNumber() + "행: " + error;
+                continue;
+            }
+            valid.put(row, imageUrls);
+        }
+
+        int failedRows = failed;
+        String chunkError = lastError;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User writer = userRepository.getReferenceById(writerId);
+                List<Product> products = valid.entrySet().stream()
+                        .map(entry -> toProduct(entry.getKey(), entry.getValue(), writer))
+                        .toList();
+                productRepository.saveAll(products);
+                imageService.retainAll(valid.values().stream().flatMap(List::stream).toList());
+                for (Product product : products) {
+                    eventPublisher.publishEvent(ProductChangedEvent.saved(product));
+                    if (!product.getImages().isEmpty()) {
+                        eventPublisher.publishEvent(new ProductImagesAddedEvent(product.getImages()));
+                    }
+                }
+                productImportJobRepository.findById(jobId).orElseThrow()
+                        .chunkCommitted(rows.size(), products.size(), failedRows, chunkError);
+            });
+        } catch (RuntimeException e) {
+            // 커밋되지 않은 배치의 이미지는 정리 (재개 시 다시 업로드)
+            imageService.deleteAll(uploaded);
+            throw e;
+        }
+    }
+
+    // 상품 하나의 이미지를 워커 풀에서 순서대로 내려받아 업로드. 하나라도 실패하면 올린 이미지는 삭제
+    private CompletableFuture<List<String>> fetchAll(List<String> urls) {
+        return CompletableFuture.supplyAsync(() -> {
+            List<String> uploaded = new ArrayList<>();
+            try {
+                for (String url : urls) {
+                    uploaded.add(fetch(url));
+                }
+                return uploaded;
+            } catch (RuntimeException e) {
+                imageService.deleteAll(uploaded);
+                throw e;
+            }
+        }, imageWorkers);
+    }
+
+    private String fetch(String url) {
+        URI uri = URI.create(url);
+        checkImageUrl(uri, allowedImageHosts);
+
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                // 3xx 포함 (리다이렉트는 따라가지 않음)
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("HTTP " + response.statusCode() + ": " + url);
+                }
+                byte[] data = body.readNBytes(MAX_IMAGE_BYTES + 1);
+                if (data.length > MAX_IMAGE_BYTES) {
+                    throw new IllegalStateException("이미지가 너무 큽니다: " + url);
+                }
+                String contentType = response.headers().firstValue("Content-Type").orElse("application/octet-stream");
+                String path = uri.getPath() == null ? "" : uri.getPath();
+                String filename = path.substring(path.lastIndexOf('/') + 1);
+                return imageService.upload(filename.isBlank() ? "image" : filename, contentType, data);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이미지 다운로드가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 서버가 대신 요청하므로 (SSRF) 내부망, 메타데이터 서버(169.254.169.254), localhost 로 향하는 URL 을 거절한다.
+     * 검사 후 HttpClient 가 다시 DNS 를 조회하므로 DNS rebinding 까지 막으려면 allowed-image-hosts 를 지정해야 한다.
+     */
+    static void checkImageUrl(URI uri, Set<String> allowedHosts) {
+        if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) {
+            throw new IllegalArgumentException("http(s) URL 만 지원합니다: " + uri);
+        }
+        String host = uri.getHost();
+        if (host == null || uri.getUserInfo() != null) {
+            throw new IllegalArgumentException("잘못된 이미지 URL 입니다: " + uri);
+        }
+        host = host.toLowerCase(Locale.ROOT);
+        if (!allowedHosts.isEmpty() && !allowedHosts.contains(host)) {
+            throw new IllegalArgumentException("허용되지 않은 이미지 호스트입니다: " + host);
+        }
+
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(host.startsWith("[") ? host.substring(1, host.length() - 1) : host);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("이미지 호스트를 찾을 수 없습니다: " + host);
+        }
+        for (InetAddress address : addresses) {
+            if (isInternal(address)) {
+                throw new IllegalArgumentException("내부 주소의 이미지는 가져올 수 없습니다: " + host);
+            }
+        }
+    }
+
+    private static boolean isInternal(InetAddress address) {
+        if (address.isLoopbackAddress() || address.isLinkLocalAddress() || address.isSiteLocalAddress()
+                || address.isAnyLocalAddress() || address.isMulticastAddress()) {
+            return true;
+        }
+        byte[] bytes = address.getAddress();
+        if (bytes.length == 4) {
+            // 100.64.0.0/10 (CGNAT), 0.0.0.0/8
+            return (bytes[0] == 100 && (bytes[1] & 0xC0) == 64) || bytes[0] == 0;
+        }
+        // fc00::/7 (IPv6 unique local)
+        return (bytes[0] & 0xFE) == 0xFC;
+    }
+
+    private static Product toProduct(ImportRow row, List<String> imageUrls, User writer) {
+        Product product = Product.builder()
+                .name(row.name())
+                .description(row.description())
+                .price(row.price())
+                .writer(writer)
+                .build();
+        for (int i = 0; i < imageUrls.size(); i++) {
+            product.getImages().add(ProductImage.builder()
+                    .imageUrl(imageUrls.get(i))
+                    .imageOrder(i)
+                    .product(product)
+                    .build());
+        }
+        return product;
+    }
+
+    private static Map<String, Integer> header(List<String> record) {
+        if (record == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < record.size(); i++) {
+            // 엑셀에서 저장한 파일의 BOM 제거
+            String name = record.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        if (!columns.containsKey(NAME) || !columns.containsKey(PRICE)) {
+            throw new IllegalArgumentException("CSV 헤더에 name, price 컬럼이 필요합니다.");
+        }
+        return columns;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        imageWorkers.shutdownNow();
+    }
+
+    private Long getCurrentUserId() {
+        // SecurityContext 기반 인증 처리 필요 (구현 생략)
+        return 1L; // 테스트용 사용자 ID
+    }
+
+    // 빈 rows = 끝, error != null = 읽기 실패
+    private record Batch(List<ImportRow> rows, String error) {}
+
+    private record ImportRow(long rowNumber, String name, String description, Integer price,
+                             List<String> imageUrls, String error) {
+
+        static ImportRow parse(long rowNumber, List<String> record, Map<String, Integer> columns) {
+            String name = column(record, columns, NAME);
+            String description = column(record, columns, DESCRIPTION);
+            String price = column(record, columns, PRICE);
+            String images = column(record, columns, IMAGE_URLS);
+            List<String> imageUrls = images == null || images.isBlank()
+                    ? List.of()
+                    : Arrays.stream(images.split("\\|")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+
+            if (name == null || name.isBlank()) {
+                return new ImportRow(rowNumber, null, null, null, List.of(), "상품명은 필수입니다.");
+            }
+            try {
+                int parsed = Integer.parseInt(price == null ? "" : price.trim());
+                if (parsed < 0) {
+                    throw new NumberFormatException();
+                }
+                return new ImportRow(rowNumber, name.trim(), description, parsed, imageUrls, null);
+            } catch (NumberFormatException e) {
+                return new ImportRow(rowNumber, null, null, null, List.of(), "가격은 0 이상의 정수여야 합니다.");
+            }
+        }
+
+        private static String column(List<String> record, Map<String, Integer> columns, String name) {
+            Integer index = columns.get(name);
+            return index == null || index >= record.size() ? null : record.get(index);
+        }
+    }
+
+    private static final class Progress {
+        private final long startedAt = System.nanoTime();
+        private final AtomicLong rows = new AtomicLong();
+
+        double rowsPerSecond() {
+            double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            return seconds > 0 ? rows.get() / seconds : 0;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.simpleshop.domain.product;
+
+public enum ProductImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
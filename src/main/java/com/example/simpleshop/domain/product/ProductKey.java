@@ -0,0 +1,6 @@
+package com.example.simpleshop.domain.product;
+
+/**
+ * 목록 페이지 구성과 ETag 계산에 쓰는 (id, version) 쌍
+ */
+public record ProductKey(Long id, Long version) {}
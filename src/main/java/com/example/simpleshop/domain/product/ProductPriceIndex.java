@@ -0,0 +1,423 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.dto.product.PriceBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * (price, id) 순으로 정렬된 primitive 배열 인덱스.
+ * 가격 범위의 건수/구간별 히스토그램을 이진 탐색만으로 계산하므로 요청마다 GROUP BY 가 필요 없다.
+ * 쓰기는 대기열에 쌓아 두었다가 다음 조회 시 한 번에 병합한다 (O(n + k log k)).
+ */
+@Slf4j
+@Component
+public class ProductPriceIndex {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int MAX_BUCKETS = 100;
+
+    private final ProductRepository productRepository;
+
+    private int[] prices = new int[1024];
+    private long[] ids = new long[1024];
+    private int size;
+    private final LongIntMap priceById = new LongIntMap();
+
+    // 커밋된 변경 (price == null 이면 삭제)
+    private final Queue<Change> pending = new ConcurrentLinkedQueue<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // 재구성(스캔) 중에 반영된 변경. 스캔 결과로 배열을 갈아끼운 뒤 다시 적용한다 (write lock 으로 보호, 재구성 중이 아니면 null)
+    private List<Change> changesDuringRebuild;
+
+    public ProductPriceIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<ProductSnapshot> all = new ArrayList<>();
+        try {
+            long lastId = 0;
+            List<ProductSnapshot> batch;
+            do {
+                batch = productRepository.findSnapshotsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                all.addAll(batch);
+                if (!batch.isEmpty()) {
+                    lastId = batch.get(batch.size() - 1).id();
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            priceById.clear();
+            Map<Long, Integer> changes = new LinkedHashMap<>();
+            all.forEach(product -> changes.put(product.id(), product.price()));
+            // 스캔 도중 이미 반영된 변경은 스캔 결과보다 새 값일 수 있으므로 그 위에 다시 적용
+            // (아직 대기열에 있는 변경은 다음 조회 때 적용됨)
+            changesDuringRebuild.forEach(change -> changes.put(change.id(), change.price()));
+            changesDuringRebuild = null;
+            apply(changes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("상품 가격 인덱스 구성 완료: {}건", all.size());
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        ProductSnapshot product = event.product();
+        pending.add(new Change(product.id(), event.deleted() ? null : product.price()));
+    }
+
+    public void put(long id, int price) {
+        pending.add(new Change(id, price));
+    }
+
+    public void remove(long id) {
+        pending.add(new Change(id, null));
+    }
+
+    /**
+     * [minPrice, maxPrice] 범위의 상품 수 (null 은 제한 없음)
+     */
+    public long count(Integer minPrice, Integer maxPrice) {
+        drain();
+        lock.readLock().lock();
+        try {
+            return upperBound(max(maxPrice)) - lowerBound(min(minPrice));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 범위 내 상품 id 를 (price, id) 오름차순 또는 내림차순으로 offset 부터 limit 개 반환
+     */
+    public List<Long> findIds(Integer minPrice, Integer maxPrice, long offset, int limit, boolean ascending) {
+        drain();
+        lock.readLock().lock();
+        try {
+            int from = lowerBound(min(minPrice));
+            int to = upperBound(max(maxPrice));
+            List<Long> result = new ArrayList<>(limit);
+            if (ascending) {
+                for (long i = from + offset; i < to && result.size() < limit; i++) {
+                    result.add(ids[(int) i]);
+                }
+            } else {
+                for (long i = to - 1 - offset; i >= from && result.size() < limit; i--) {
+                    result.add(ids[(int) i]);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * bucketSize 단위 가격 구간별 상품 수. 구간이 너무 많으면 bucketSize 를 넓힌다.
+     */
+    public List<PriceBucket> histogram(Integer minPrice, Integer maxPrice, int bucketSize) {
+        drain();
+        lock.readLock().lock();
+        try {
+            int from = lowerBound(min(minPrice));
+            int to = upperBound(max(maxPrice));
+            if (from >= to) {
+                return List.of();
+            }
+
+            long lowest = Math.floorDiv((long) prices[from], bucketSize) * bucketSize;
+            long highest = prices[to - 1];
+            long width = bucketSize;
+            while ((highest - lowest) / width + 1 > MAX_BUCKETS) {
+                width *= 2;
+            }
+
+            List<PriceBucket> buckets = new ArrayList<>();
+            int start = from;
+            for (long bucketFrom = lowest; start < to; bucketFrom += width) {
+                long bucketTo = bucketFrom + width - 1;
+                int end = bucketTo >= Integer.MAX_VALUE ? to : Math.min(upperBound((int) bucketTo), to);
+                buckets.add(new PriceBucket(bucketFrom, bucketTo, end - start));
+                start = end;
+            }
+            return buckets;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void drain() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 같은 상품의 변경은 마지막 것만 반영
+            Map<Long, Integer> changes = new LinkedHashMap<>();
+            Change change;
+            while ((change = pending.poll()) != null) {
+                changes.put(change.id(), change.price());
+            }
+            if (!changes.isEmpty()) {
+                apply(changes);
+                if (changesDuringRebuild != null) {
+                    changes.forEach((id, price) -> changesDuringRebuild.add(new Change(id, price)));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // write lock 안에서 호출
+    private void apply(Map<Long, Integer> changes) {
+        // 1. 변경 대상의 기존 위치 제거
+        int[] removed = new int[changes.size()];
+        int removedCount = 0;
+        for (Long id : changes.keySet()) {
+            int oldPrice = priceById.get(id);
+            if (oldPrice != LongIntMap.MISSING) {
+                int position = indexOf(oldPrice, id);
+                if (position >= 0) {
+                    removed[removedCount++] = position;
+                }
+                priceById.remove(id);
+            }
+        }
+        if (removedCount > 0) {
+            Arrays.sort(removed, 0, removedCount);
+            int write = removed[0];
+            int next = 0;
+            for (int read = removed[0]; read < size; read++) {
+                if (next < removedCount && removed[next] == read) {
+                    next++;
+                    continue;
+                }
+                prices[write] = prices[read];
+                ids[write] = ids[read];
+                write++;
+            }
+            size = write;
+        }
+
+        // 2. 추가/수정 항목을 정렬한 뒤 뒤에서부터 병합
+        long[][] additions = changes.entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .map(entry -> new long[]{entry.getValue(), entry.getKey()})
+                .sorted((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(a[1], b[1]))
+                .toArray(long[][]::new);
+        if (additions.length == 0) {
+            return;
+        }
+
+        ensureCapacity(size + additions.length);
+        int i = size - 1;
+        int j = additions.length - 1;
+        for (int w = size + additions.length - 1; j >= 0; w--) {
+            if (i >= 0 && compare(prices[i], ids[i], (int) additions[j][0], additions[j][1]) > 0) {
+                prices[w] = prices[i];
+                ids[w] = ids[i];
+                i--;
+            } else {
+                prices[w] = (int) additions[j][0];
+                ids[w] = additions[j][1];
+                priceById.put(additions[j][1], (int) additions[j][0]);
+                j--;
+            }
+        }
+        size += additions.length;
+    }
+
+    private int indexOf(int price, long id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(prices[mid], ids[mid], price, id);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // price >= value 인 첫 위치
+    private int lowerBound(int value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // price > value 인 첫 위치
+    private int upperBound(int value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (prices[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= prices.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, prices.length + (prices.length >> 1));
+        prices = Arrays.copyOf(prices, newCapacity);
+        ids = Arrays.copyOf(ids, newCapacity);
+    }
+
+    private static int compare(int priceA, long idA, int priceB, long idB) {
+        return priceA != priceB ? Integer.compare(priceA, priceB) : Long.compare(idA, idB);
+    }
+
+    private static int min(Integer minPrice) {
+        return minPrice == null ? Integer.MIN_VALUE : minPrice;
+    }
+
+    private static int max(Integer maxPrice) {
+        return maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+    }
+
+    private record Change(long id, Integer price) {}
+
+    /**
+     * id -> price 조회용 open addressing 해시맵 (boxing 없음, 선형 탐사 + backward shift 삭제)
+     */
+    static final class LongIntMap {
+
+        static final int MISSING = Integer.MIN_VALUE;
+        private static final long EMPTY = 0L; // 상품 id 는 1 부터 시작
+
+        private long[] keys = new long[1024];
+        private int[] values = new int[1024];
+        private int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = hash(key) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return MISSING;
+        }
+
+        void put(long key, int value) {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+        }
+
+        void remove(long key) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != key) {
+                if (keys[slot] == EMPTY) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+
+            // 뒤따르는 항목을 당겨 탐사 체인을 유지
+            int gap = slot;
+            for (int next = (gap + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+                int home = hash(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+            }
+            keys[gap] = EMPTY;
+            size--;
+        }
+
+        void clear() {
+            Arrays.fill(keys, EMPTY);
+            size = 0;
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = new int[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
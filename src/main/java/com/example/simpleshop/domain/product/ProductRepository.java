@@ -1,6 +1,80 @@
 package com.example.simpleshop.domain.product;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    // 목록 1단계: 정렬/페이징은 (id, version) 만 대상으로 수행
+    @Query(value = "select new com.example.simpleshop.domain.product.ProductKey(p.id, p.version) from Product p",
+            countQuery = "select count(p) from Product p")
+    Page<ProductKey> findKeyPage(Pageable pageable);
+
+    // 목록 2단계: 페이지에 포함된 상품과 이미지를 한 번에 조회 (@OrderBy 유지)
+    @Query("select distinct p from Product p left join fetch p.images where p.id in :ids")
+    List<Product> findAllWithImagesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 상세 조회: 상품과 이미지를 한 번에 조회
+    @Query("select p from Product p left join fetch p.images where p.id = :id")
+    Optional<Product> findWithImagesById(@Param("id") Long id);
+
+    @Query("select p.version from Product p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // 이미지 변경처럼 상품 컬럼이 바뀌지 않는 수정에서도 version 을 증가시킴
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select p from Product p where p.id = :id")
+    Optional<Product> findForUpdateById(@Param("id") Long id);
+
+    // 가격 범위 필터 + 최신순 (건수는 가격 인덱스에서 계산)
+    @Query("select new com.example.simpleshop.domain.product.ProductKey(p.id, p.version) from Product p " +
+            "where p.price between :minPrice and :maxPrice order by p.id desc")
+    List<ProductKey> findKeysByPriceBetween(@Param("minPrice") int minPrice, @Param("maxPrice") int maxPrice,
+                                            Pageable pageable);
+
+    @Query("select new com.example.simpleshop.domain.product.ProductKey(p.id, p.version) from Product p " +
+            "where p.id in :ids")
+    List<ProductKey> findKeysByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 커서 페이징: 마지막 위치 이후의 id 를 인덱스 순서대로 조회 (OFFSET / count 없음)
+    @Query("select p.id from Product p where p.id < :id order by p.id desc")
+    List<Long> findIdsBefore(@Param("id") long id, Pageable pageable);
+
+    @Query("select p.id from Product p " +
+            "where p.price > :price or (p.price = :price and p.id > :id) " +
+            "order by p.price asc, p.id asc")
+    List<Long> findIdsAfterPriceAsc(@Param("price") int price, @Param("id") long id, Pageable pageable);
+
+    @Query("select p.id from Product p " +
+            "where p.price < :price or (p.price = :price and p.id < :id) " +
+            "order by p.price desc, p.id desc")
+    List<Long> findIdsAfterPriceDesc(@Param("price") int price, @Param("id") long id, Pageable pageable);
+
+    // 인메모리 인덱스 재구성용 id 순 스캔
+    @Query("select new com.example.simpleshop.domain.product.ProductSnapshot(p.id, p.name, p.description, p.price) " +
+            "from Product p where p.id > :id order by p.id asc")
+    List<ProductSnapshot> findSnapshotsAfter(@Param("id") long id, Pageable pageable);
+
+    // 전체 내보내기: 엔티티 대신 스칼라 행을 fetch size 단위 커서로 읽음 (영속성 컨텍스트에 쌓이지 않음)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p.id, p.name, p.description, p.price, p.writer.id, p.version, " +
+            "i.id, i.imageUrl, i.imageOrder, i.thumbnailUrl, i.mediumUrl " +
+            "from Product p left join p.images i order by p.id asc, i.imageOrder asc")
+    Stream<Object[]> streamAllForExport();
 }
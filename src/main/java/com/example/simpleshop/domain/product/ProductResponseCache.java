@@ -0,0 +1,121 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.dto.common.ApiResponse;
+import com.example.simpleshop.dto.product.ProductResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상품 상세 응답(ApiResponse&lt;ProductResponse&gt;)을 직렬화된 JSON 바이트로 보관 (id -> version, bytes).
+ * 적중하면 toDto, Jackson 직렬화 없이 바이트를 그대로 쓴다. 메모리는 항목 수가 아니라 총 바이트로 제한한다.
+ */
+@Component
+public class ProductResponseCache implements MeterBinder {
+
+    // 키, 엔트리 객체, 배열 헤더 등 바이트 배열 외 대략적인 비용
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final ObjectMapper objectMapper;
+    private final int gzipMinBytes;
+    private final Cache<Long, SerializedProduct> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProductResponseCache(ObjectMapper objectMapper,
+                                ProductCache productCache,
+                                @Value("${product.response-cache.max-bytes:67108864}") long maxBytes,
+                                @Value("${product.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long id, SerializedProduct entry) -> entry.weight())
+                .recordStats()
+                .build();
+        // 상품 수정/삭제, 이미지 변경 등 ProductCache 를 무효화하는 쓰기 경로를 그대로 따른다
+        productCache.onEvict(this::evict);
+    }
+
+    /**
+     * version 이 일치하는 직렬화 결과를 반환하고, 없으면 loader 결과를 직렬화해 적재한다.
+     * 반환되는 version 은 loader 결과 기준이므로 요청한 version 보다 새로울 수 있다.
+     */
+    public SerializedProduct get(Long id, long version, Supplier<ProductResponse> loader) {
+        SerializedProduct cached = cache.getIfPresent(id);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+
+        long stamp = invalidations.get();
+        SerializedProduct loaded = serialize(loader.get());
+        cache.put(id, loaded);
+        // 적재 중에 무효화가 있었다면 오래된 값일 수 있으므로 제거
+        if (invalidations.get() != stamp) {
+            cache.invalidate(id);
+        }
+        return loaded;
+    }
+
+    public void evict(Long id) {
+        invalidations.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    public long weightedSize() {
+        // 비동기로 밀려 있는 정리(eviction) 작업을 반영한 뒤 측정
+        cache.cleanUp();
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "product.response");
+        Gauge.builder("product.response.cache.bytes", this, ProductResponseCache::weightedSize)
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private SerializedProduct serialize(ProductResponse product) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(product));
+            byte[] gzip = json.length >= gzipMinBytes ? gzip(json) : null;
+            return new SerializedProduct(product.version(), json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상품 응답 직렬화 실패", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 3 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @param gzip 작은 응답은 압축 이득이 적어 null
+     */
+    public record SerializedProduct(long version, byte[] json, byte[] gzip) {
+
+        int weight() {
+            return ENTRY_OVERHEAD_BYTES + json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.example.simpleshop.domain.product;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명/설명 인메모리 역색인 (BM25 랭킹).
+ * 모든 검색어 토큰을 포함하는 상품만 반환(AND)하며, 가장 짧은 posting 목록부터 교집합을 구한다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final int NAME_WEIGHT = 3; // 상품명 일치는 설명보다 가중치를 높게
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ProductSearchIndex(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        long lastId = 0;
+        int count = 0;
+        List<ProductSnapshot> batch;
+        do {
+            batch = productRepository.findSnapshotsAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            batch.forEach(this::index);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).id();
+                count += batch.size();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+
+        log.info("상품 검색 색인 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.deleted()) {
+            remove(event.product().id());
+        } else {
+            index(event.product());
+        }
+    }
+
+    public void index(ProductSnapshot product) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (String token : ProductTokenizer.tokenize(product.name())) {
+            frequencies.merge(token, NAME_WEIGHT, Integer::sum);
+        }
+        for (String token : ProductTokenizer.tokenize(product.description())) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(product.id());
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new Postings())
+                        .add(product.id(), entry.getValue());
+            }
+            documents.put(product.id(), new Document(frequencies.keySet().toArray(String[]::new), length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 관련도 순 상품 id 목록
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = ProductTokenizer.tokenizeQuery(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return List.of(); // 하나라도 없으면 결과 없음 (AND)
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            int documentCount = documents.size();
+            float averageLength = documentCount == 0 ? 1f : (float) totalLength / documentCount;
+            float[] idf = new float[lists.size()];
+            for (int t = 0; t < lists.size(); t++) {
+                int df = lists.get(t).size;
+                idf[t] = (float) Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            // 점수가 낮은 것부터 꺼내는 크기 limit 의 힙
+            PriorityQueue<ScoredDocument> top = new PriorityQueue<>(limit + 1,
+                    Comparator.comparingDouble(ScoredDocument::score).thenComparing(ScoredDocument::id, Comparator.reverseOrder()));
+
+            Postings rarest = lists.get(0);
+            candidates:
+            for (int i = 0; i < rarest.size; i++) {
+                long id = rarest.ids[i];
+                Document document = documents.get(id);
+                float norm = K1 * (1 - B + B * document.length() / averageLength);
+
+                float score = bm25(rarest.frequencies[i], norm, idf[0]);
+                for (int t = 1; t < lists.size(); t++) {
+                    Postings other = lists.get(t);
+                    int index = other.indexOf(id);
+                    if (index < 0) {
+                        continue candidates;
+                    }
+                    score += bm25(other.frequencies[index], norm, idf[t]);
+                }
+
+                top.offer(new ScoredDocument(id, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<Long> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                result.add(top.poll().id());
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeInternal(Long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+
+        totalLength -= previous.length();
+        for (String term : previous.terms()) {
+            Postings list = postings.get(term);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static float bm25(int frequency, float norm, float idf) {
+        return idf * frequency * (K1 + 1) / (frequency + norm);
+    }
+
+    private record Document(String[] terms, int length) {}
+
+    private record ScoredDocument(long id, float score) {}
+
+    /**
+     * id 오름차순으로 정렬된 posting 목록 (primitive 배열)
+     */
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(long id, int frequency) {
+            // 신규 상품은 id 가 커서 대부분 맨 뒤에 추가됨
+            int position = size == 0 || ids[size - 1] < id
+                    ? size
+                    : -(Arrays.binarySearch(ids, 0, size, id) + 1);
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(frequencies, position, frequencies, position + 1, size - position);
+            ids[position] = id;
+            frequencies[position] = frequency;
+            size++;
+        }
+
+        boolean remove(long id) {
+            int position = indexOf(id);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            System.arraycopy(frequencies, position + 1, frequencies, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        int indexOf(long id) {
+            return Arrays.binarySearch(ids, 0, size, id);
+        }
+    }
+}
@@ -1,31 +1,49 @@
 package com.example.simpleshop.domain.product;
 
-import com.example.simpleshop.domain.common.S3ImageService;
+import com.example.simpleshop.domain.common.ImageOutboxService;
+import com.example.simpleshop.domain.common.ImageService;
 import com.example.simpleshop.domain.user.User;
 import com.example.simpleshop.domain.user.UserRepository;
+import com.example.simpleshop.dto.common.CursorPage;
 import com.example.simpleshop.dto.product.*;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
 
+@Timed(value = "product.service", histogram = true)
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
-    private final S3ImageService s3ImageService;
+    private final ImageService imageService;
+    private final ProductCache productCache;
+    private final ImageOutboxService imageOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductPriceIndex productPriceIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProductResponse create(ProductRequest req) {
@@ -40,64 +58,256 @@ public class ProductService {
                 .build();
 
         productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(product));
         return toDto(product);
     }
 
-    @Transactional
+    // S3 업로드는 트랜잭션 밖에서 수행하고, DB 반영은 짧은 트랜잭션으로 처리
     public List<String> updateImages(Long productId, List<MultipartFile> images) throws IOException {
         Long userId = getCurrentUserId();
 
-        Product product = productRepository.findById(productId)
+        Product found = productRepository.findById(productId)
                 .orElseThrow(() -> new NoSuchElementException("존재하지 않는 상품입니다."));
 
-        if (!product.getWriter().getId().equals(userId)) {
+        if (!found.getWriter().getId().equals(userId)) {
             throw new IllegalStateException("작성자만 수정할 수 있습니다.");
         }
 
-        // 기존 이미지 모두 삭제 (S3 및 DB)
-        for (ProductImage image : product.getImages()) {
-            s3ImageService.delete(image.getImageUrl());
+        // 새 이미지를 병렬 업로드 (실패 시 업로드된 파일은 정리되고 기존 이미지는 유지)
+        List<String> uploadedUrls = imageService.uploadAll(images);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 이미지 변경도 상품 version 을 올려 ETag 가 바뀌도록 함
+                Product product = productRepository.findForUpdateById(productId)
+                        .orElseThrow(() -> new NoSuchElementException("존재하지 않는 상품입니다."));
+
+                // 기존 이미지는 커밋 후 outbox 를 통해 S3 에서 삭제
+                imageOutboxService.enqueueDelete(product.getImages().stream()
+                        .flatMap(image -> image.getAllUrls().stream())
+                        .toList());
+                product.getImages().clear();
+                imageService.retainAll(uploadedUrls);
+
+                // 요청 순서대로 순서 부여
+                for (int i = 0; i < uploadedUrls.size(); i++) {
+                    ProductImage image = ProductImage.builder()
+                            .imageUrl(uploadedUrls.get(i))
+                            .imageOrder(i)
+                            .product(product)
+                            .build();
+
+                    product.getImages().add(image);
+                }
+
+                productRepository.save(product);
+                productCache.evictAfterCommit(productId);
+                // 커밋 후 백그라운드에서 축소본 생성
+                eventPublisher.publishEvent(new ProductImagesAddedEvent(product.getImages()));
+            });
+        } catch (RuntimeException e) {
+            // DB 반영 실패 시 새로 올린 이미지 정리
+            imageService.deleteAll(uploadedUrls);
+            throw e;
         }
-        product.getImages().clear();
 
-        // 새로운 이미지 업로드 및 순서 부여
-        List<String> uploadedUrls = new ArrayList<>();
-        for (int i = 0; i < images.size(); i++) {
-            String imageUrl = s3ImageService.upload(images.get(i));
-            ProductImage image = ProductImage.builder()
-                    .imageUrl(imageUrl)
-                    .imageOrder(i)
-                    .product(product)
-                    .build();
+        return uploadedUrls;
+    }
+
+    /**
+     * 이미지 부분 수정: 추가/삭제/순서 변경을 한 요청으로 처리한다.
+     * 저장소에는 추가, 삭제되는 이미지만 요청하고, 순서 변경은 바뀐 이미지만 JDBC 배치 UPDATE 로 처리한다.
+     */
+    public List<ProductImageResponse> patchImages(Long productId, ProductImagePatchRequest request,
+                                                  List<MultipartFile> added) throws IOException {
+        Long userId = getCurrentUserId();
+        List<MultipartFile> files = added == null ? List.of() : added;
 
-            product.getImages().add(image);
-            uploadedUrls.add(imageUrl);
+        Product found = productRepository.findWithImagesById(productId)
+                .orElseThrow(() -> new NoSuchElementException("존재하지 않는 상품입니다."));
+        if (!found.getWriter().getId().equals(userId)) {
+            throw new IllegalStateException("작성자만 수정할 수 있습니다.");
         }
+        // 업로드 전에 잘못된 요청을 걸러냄 (트랜잭션 안에서 다시 확인)
+        targetOrder(found.getImages(), request);
+
+        List<String> uploadedUrls = imageService.uploadAll(files);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                Product product = productRepository.findForUpdateById(productId)
+                        .orElseThrow(() -> new NoSuchElementException("존재하지 않는 상품입니다."));
+                List<ProductImage> images = product.getImages();
+                Map<Long, Integer> orders = targetOrder(images, request);
+
+                List<ProductImage> removed = images.stream()
+                        .filter(image -> !orders.containsKey(image.getId()))
+                        .toList();
+                imageOutboxService.enqueueDelete(removed.stream()
+                        .flatMap(image -> image.getAllUrls().stream())
+                        .toList());
+                images.removeAll(removed);
+
+                // 위치가 바뀐 이미지만 엔티티로 수정 (hibernate.jdbc.batch_size 단위 배치 UPDATE).
+                // JPQL 일괄 UPDATE 는 product-image / product-images 2차 캐시 영역 전체를 비우므로 쓰지 않는다
+                for (ProductImage image : images) {
+                    image.updateOrder(orders.get(image.getId()));
+                }
+
+                imageService.retainAll(uploadedUrls);
+                List<ProductImage> newImages = new ArrayList<>();
+                for (int i = 0; i < uploadedUrls.size(); i++) {
+                    ProductImage image = ProductImage.builder()
+                            .imageUrl(uploadedUrls.get(i))
+                            .imageOrder(images.size() + i)
+                            .product(product)
+                            .build();
+                    newImages.add(image);
+                }
+                images.addAll(newImages);
+
+                productRepository.saveAndFlush(product);
+                productCache.evictAfterCommit(productId);
+                if (!newImages.isEmpty()) {
+                    eventPublisher.publishEvent(new ProductImagesAddedEvent(newImages));
+                }
+
+                return images.stream()
+                        .map(image -> ProductImageResponse.builder()
+                                .id(image.getId())
+                                .url(image.getImageUrl())
+                                .thumbnailUrl(image.getThumbnailUrl())
+                                .mediumUrl(image.getMediumUrl())
+                                .order(image.getImageOrder())
+                                .build())
+                        .sorted(Comparator.comparingInt(ProductImageResponse::order))
+                        .toList();
+            });
+        } catch (RuntimeException e) {
+            imageService.deleteAll(uploadedUrls);
+            throw e;
+        }
+    }
 
-        productRepository.save(product);
-        return uploadedUrls;
+    // 남는 기존 이미지의 id -> 새 순서
+    private static Map<Long, Integer> targetOrder(List<ProductImage> images, ProductImagePatchRequest request) {
+        List<Long> existingIds = images.stream()
+                .sorted(Comparator.comparingInt(ProductImage::getImageOrder))
+                .map(ProductImage::getId)
+                .toList();
+
+        Set<Long> removeIds = new HashSet<>(request.removeIdsOrEmpty());
+        if (!existingIds.containsAll(removeIds)) {
+            throw new NoSuchElementException("이미지를 찾을 수 없습니다.");
+        }
+        List<Long> remaining = existingIds.stream()
+                .filter(id -> !removeIds.contains(id))
+                .toList();
+
+        List<Long> order = request.order() == null ? remaining : request.order();
+        if (order.size() != remaining.size() || !new HashSet<>(order).equals(new HashSet<>(remaining))) {
+            throw new IllegalArgumentException("order 에는 남는 기존 이미지 ID 를 한 번씩 모두 지정해야 합니다.");
+        }
+
+        Map<Long, Integer> orders = new HashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            orders.put(order.get(i), i);
+        }
+        return orders;
     }
 
 
 
     @Transactional(readOnly = true)
     public Page<ProductResponse> findAll(Pageable pageable, String sortBy) {
-        Sort sort;
-        switch (sortBy) {
-            case "priceAsc" -> sort = Sort.by(Sort.Direction.ASC, "price");
-            case "priceDesc" -> sort = Sort.by(Sort.Direction.DESC, "price");
-            default -> sort = Sort.by(Sort.Direction.DESC, "id"); // 최신순
+        return findAll(findPageKeys(pageable, sortBy, null, null));
+    }
+
+    // 목록 1단계: 정렬/페이징은 (id, version) 만 대상으로 수행 (ETag 계산에도 사용)
+    @Transactional(readOnly = true)
+    public Page<ProductKey> findPageKeys(Pageable pageable, String sortBy, Integer minPrice, Integer maxPrice) {
+        if (minPrice == null && maxPrice == null) {
+            Sort sort;
+            switch (sortBy) {
+                case "priceAsc" -> sort = Sort.by(Sort.Direction.ASC, "price", "id");
+                case "priceDesc" -> sort = Sort.by(Sort.Direction.DESC, "price", "id");
+                default -> sort = Sort.by(Sort.Direction.DESC, "id"); // 최신순
+            }
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+
+            return productRepository.findKeyPage(pageable);
         }
-        pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
 
-        return productRepository.findAll(pageable)
-                .map(this::toDto);
+        // 가격 필터: 건수는 가격 인덱스에서 계산해 count(*) 생략
+        long total = productPriceIndex.count(minPrice, maxPrice);
+        List<ProductKey> keys = switch (sortBy) {
+            // 가격순은 인덱스가 이미 (price, id) 순이므로 해당 구간의 id 만 잘라 씀
+            case "priceAsc", "priceDesc" -> findKeysInOrder(productPriceIndex.findIds(minPrice, maxPrice,
+                    pageable.getOffset(), pageable.getPageSize(), sortBy.equals("priceAsc")));
+            default -> productRepository.findKeysByPriceBetween(
+                    minPrice == null ? Integer.MIN_VALUE : minPrice,
+                    maxPrice == null ? Integer.MAX_VALUE : maxPrice,
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        };
+        return new PageImpl<>(keys, pageable, total);
+    }
+
+    // 가격 구간별 상품 수 (가격 인덱스만 사용)
+    public List<PriceBucket> priceHistogram(Integer minPrice, Integer maxPrice, int bucketSize) {
+        return productPriceIndex.histogram(minPrice, maxPrice, bucketSize);
+    }
+
+    // 목록 2단계: 페이지의 상품과 이미지를 한 번에 조회해 N+1 방지
+    @Transactional(readOnly = true)
+    public Page<ProductResponse> findAll(Page<ProductKey> keys) {
+        List<ProductResponse> content = loadInOrder(keys.getContent().stream()
+                .map(ProductKey::id)
+                .toList());
+        return new PageImpl<>(content, keys.getPageable(), keys.getTotalElements());
     }
 
     @Transactional(readOnly = true)
+    public CursorPage<ProductResponse> findAllByCursor(String cursor, int size, String sortBy) {
+        boolean first = cursor == null || cursor.isBlank();
+        ProductCursor last = first ? null : ProductCursor.decode(cursor, sortBy);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Long> ids = switch (sortBy) {
+            case "priceAsc" -> first
+                    ? productRepository.findIdsAfterPriceAsc(Integer.MIN_VALUE, Long.MIN_VALUE, limit)
+                    : productRepository.findIdsAfterPriceAsc(last.price(), last.id(), limit);
+            case "priceDesc" -> first
+                    ? productRepository.findIdsAfterPriceDesc(Integer.MAX_VALUE, Long.MAX_VALUE, limit)
+                    : productRepository.findIdsAfterPriceDesc(last.price(), last.id(), limit);
+            default -> productRepository.findIdsBefore(first ? Long.MAX_VALUE : last.id(), limit);
+        };
+
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+        List<Product> products = findAllInOrder(pageIds);
+
+        String nextCursor = hasNext && !products.isEmpty()
+                ? ProductCursor.of(products.get(products.size() - 1), sortBy).encode()
+                : null;
+        return new CursorPage<>(products.stream().map(ProductService::toDto).toList(), size, nextCursor, hasNext);
+    }
+
+    // 인메모리 역색인에서 관련도 순 id 를 구한 뒤 한 번에 조회
+    @Transactional(readOnly = true)
+    public List<ProductResponse> search(String query, int size) {
+        return loadInOrder(productSearchIndex.search(query, size));
+    }
+
+    // 조건부 요청(If-None-Match) 확인용 가벼운 조회
+    public Long findVersion(Long id) {
+        return productRepository.findVersionById(id)
+                .orElseThrow(() -> new NoSuchElementException("해당 상품을 찾을 수 없습니다."));
+    }
+
+    // 캐시 적중 시 트랜잭션(커넥션) 없이 반환
     public ProductResponse findById(Long id) {
-        return productRepository.findById(id)
-                .map(this::toDto)
+        return productCache.get(id, key -> productRepository.findWithImagesById(key).map(ProductService::toDto))
                 .orElseThrow(() -> new NoSuchElementException("해당 상품을 찾을 수 없습니다."));
     }
 
@@ -113,6 +323,8 @@ public class ProductService {
 
         product.update(req.name(), req.description(), req.price());
         productRepository.save(product);
+        productCache.evictAfterCommit(id);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(product));
     }
 
     @Transactional
@@ -125,18 +337,20 @@ public class ProductService {
             throw new IllegalStateException("작성자만 삭제할 수 있습니다.");
         }
 
-        if (!product.getImages().isEmpty()) {
-            s3ImageService.imageDelete(product.getImages());
-        }
+        imageOutboxService.enqueueDelete(product.getImages().stream()
+                .flatMap(image -> image.getAllUrls().stream())
+                .toList());
 
         productRepository.delete(product);
+        productCache.evictAfterCommit(id);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(product));
     }
 
     @Transactional
     public void deleteImage(Long productId, Long imageId) {
         Long userId = getCurrentUserId();
 
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findForUpdateById(productId)
                 .orElseThrow(() -> new NoSuchElementException("존재하지 않는 상품입니다."));
 
         if (!product.getWriter().getId().equals(userId)) {
@@ -151,8 +365,8 @@ public class ProductService {
                 .findFirst()
                 .orElseThrow(() -> new NoSuchElementException("이미지를 찾을 수 없습니다."));
 
-        // S3 삭제 + 리스트에서 제거
-        s3ImageService.delete(target.getImageUrl());
+        // 리스트에서 제거 + 커밋 후 S3 삭제
+        imageOutboxService.enqueueDelete(target.getAllUrls());
         images.remove(target);
 
         // ✅ 순서 재정렬
@@ -161,16 +375,58 @@ public class ProductService {
         }
 
         productRepository.save(product);
+        productCache.evictAfterCommit(productId);
     }
 
 
 
-    private ProductResponse toDto(Product p) {
+    private List<ProductKey> findKeysInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductKey> keysById = new HashMap<>();
+        for (ProductKey key : productRepository.findKeysByIdIn(ids)) {
+            keysById.put(key.id(), key);
+        }
+        return ids.stream()
+                .map(keysById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private List<ProductResponse> loadInOrder(List<Long> ids) {
+        return findAllInOrder(ids).stream()
+                .map(ProductService::toDto)
+                .toList();
+    }
+
+    private List<Product> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Product> productsById = new HashMap<>();
+        for (Product product : productRepository.findAllWithImagesByIdIn(ids)) {
+            productsById.put(product.getId(), product);
+        }
+
+        // id 페이지의 정렬 순서 유지
+        return ids.stream()
+                .map(productsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 상태가 없는 매핑 (벤치마크에서 직접 호출)
+    static ProductResponse toDto(Product p) {
         List<ProductImageResponse> imageDtos = p.getImages().stream()
                 .sorted(Comparator.comparingInt(ProductImage::getImageOrder)) // ✅ 순서 정렬
                 .map(img -> ProductImageResponse.builder()
                         .id(img.getId())
                         .url(img.getImageUrl())
+                        .thumbnailUrl(img.getThumbnailUrl())
+                        .mediumUrl(img.getMediumUrl())
                         .order(img.getImageOrder())
                         .build()
                 )
@@ -183,6 +439,7 @@ public class ProductService {
                 .price(p.getPrice())
                 .images(imageDtos)
                 .writerId(p.getWriter().getId())
+                .version(p.getVersion())
                 .build();
     }
 
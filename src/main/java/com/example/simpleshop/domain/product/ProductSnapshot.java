@@ -0,0 +1,11 @@
+package com.example.simpleshop.domain.product;
+
+/**
+ * 검색/가격 인덱스가 사용하는 상품 값 (엔티티 없이 전달)
+ */
+public record ProductSnapshot(Long id, String name, String description, int price) {
+
+    public static ProductSnapshot from(Product product) {
+        return new ProductSnapshot(product.getId(), product.getName(), product.getDescription(), product.getPrice());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.simpleshop.domain.product;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저.
+ * 영문/숫자는 단어 단위, 한글은 형태소 분석기 없이 음절 bigram 으로 나눈다.
+ * ("고양이인형" -> 고양, 양이, 이인, 인형 / "고양이 인형" 으로 검색해도 일치)
+ * 한 음절 검색어("곰" -> 곰인형)도 찾을 수 있도록 색인에는 음절 unigram 도 넣는다 (검색어는 bigram 만 사용).
+ */
+final class ProductTokenizer {
+
+    private ProductTokenizer() {
+    }
+
+    // 색인용: 한글은 bigram + unigram
+    static List<String> tokenize(String text) {
+        return tokenize(text, true);
+    }
+
+    // 검색어용: 두 음절 이상이면 bigram 만 (unigram 까지 AND 로 걸면 결과가 달라지지 않고 비용만 늘어남)
+    static List<String> tokenizeQuery(String text) {
+        return tokenize(text, false);
+    }
+
+    private static List<String> tokenize(String text, boolean withUnigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int i = 0;
+        while (i < length) {
+            char c = normalized.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                addHangulTokens(normalized, start, i, withUnigrams, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(normalized.charAt(i)) && !isHangul(normalized.charAt(i))) {
+                    i++;
+                }
+                tokens.add(normalized.substring(start, i));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addHangulTokens(String text, int start, int end, boolean withUnigrams, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 2 <= end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+        if (withUnigrams) {
+            for (int i = start; i < end; i++) {
+                tokens.add(text.substring(i, i + 1));
+            }
+        }
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.simpleshop.domain.user;
+
+import java.io.Serializable;
+
+/**
+ * 세션(SecurityContext)에 저장되는 인증 사용자 정보. 엔티티 대신 필요한 값만 보관한다.
+ */
+public record SessionUser(
+        Long id,
+        String email,
+        String nickname
+) implements Serializable {
+
+    public static SessionUser from(User user) {
+        return new SessionUser(user.getId(), user.getEmail(), user.getNickname());
+    }
+}
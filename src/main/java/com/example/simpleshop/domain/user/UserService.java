@@ -2,19 +2,29 @@ package com.example.simpleshop.domain.user;
 
 import com.example.simpleshop.dto.user.*;
 import com.example.simpleshop.dto.common.ApiResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Timed(value = "user.service", histogram = true)
 @Service
-@RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public UserService(UserRepository userRepository,
+                       PasswordHasher passwordHasher,
+                       PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
     public ApiResponse<UserResponse> signup(UserSignupRequest request) {
         if (userRepository.findByEmail(request.email()).isPresent()) {
@@ -23,7 +33,7 @@ public class UserService {
 
         User user = User.builder()
                 .email(request.email())
-                .password(passwordEncoder.encode(request.password()))
+                .password(passwordHasher.encode(request.password()))
                 .nickname(request.nickname())
                 .build();
 
@@ -32,12 +42,13 @@ public class UserService {
         return ApiResponse.success(userResponse);
     }
 
-    @Transactional(readOnly = true)
+    // 조회만 짧은 readOnly 트랜잭션(replica 대상)으로 하고, 해시 비교는 트랜잭션 밖에서 한다
+    // (open-in-view 가 켜져 있으면 커넥션은 요청 끝까지 유지되므로 라우팅 사용 시처럼 꺼 두어야 효과가 있음)
     public ApiResponse<UserResponse> login(UserLoginRequest loginRequest) {
-        User user = userRepository.findByEmail(loginRequest.email())
+        User user = readOnlyTransaction.execute(status -> userRepository.findByEmail(loginRequest.email()))
                 .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 이메일입니다."));
 
-        if (!passwordEncoder.matches(loginRequest.password(), user.getPassword())) {
+        if (!passwordHasher.matches(loginRequest.password(), user.getPassword())) {
             throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
         }
 
@@ -0,0 +1,14 @@
+package com.example.simpleshop.dto.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "커서 기반 페이지 응답")
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        @Schema(description = "다음 페이지 요청 시 전달할 cursor (마지막 페이지면 null)")
+        String nextCursor,
+        boolean hasNext
+) {}
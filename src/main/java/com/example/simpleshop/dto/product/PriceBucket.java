@@ -0,0 +1,12 @@
+package com.example.simpleshop.dto.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "가격 구간별 상품 수")
+public record PriceBucket(
+        @Schema(description = "구간 시작 가격 (포함)")
+        long minPrice,
+        @Schema(description = "구간 끝 가격 (포함)")
+        long maxPrice,
+        long count
+) {}
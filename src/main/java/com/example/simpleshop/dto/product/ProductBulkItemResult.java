@@ -0,0 +1,21 @@
+package com.example.simpleshop.dto.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일괄 처리 항목별 결과")
+public record ProductBulkItemResult(
+        @Schema(description = "요청 배열에서의 위치 (0부터)")
+        int index,
+        Long id,
+        boolean success,
+        @Schema(description = "실패 사유 (성공 시 null)")
+        String error
+) {
+    public static ProductBulkItemResult success(int index, Long id) {
+        return new ProductBulkItemResult(index, id, true, null);
+    }
+
+    public static ProductBulkItemResult failure(int index, Long id, String error) {
+        return new ProductBulkItemResult(index, id, false, error);
+    }
+}
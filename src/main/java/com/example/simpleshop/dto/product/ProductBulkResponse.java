@@ -0,0 +1,28 @@
+package com.example.simpleshop.dto.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "상품 일괄 등록/수정 결과")
+public record ProductBulkResponse(
+        int requested,
+        int succeeded,
+        int failed,
+        long elapsedMillis,
+        @Schema(description = "처리 속도 (성공 건수 / 초)")
+        double rowsPerSecond,
+        List<ProductBulkItemResult> results
+) {
+    public static ProductBulkResponse of(List<ProductBulkItemResult> results, long elapsedNanos) {
+        int succeeded = (int) results.stream().filter(ProductBulkItemResult::success).count();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new ProductBulkResponse(
+                results.size(),
+                succeeded,
+                results.size() - succeeded,
+                elapsedNanos / 1_000_000,
+                seconds > 0 ? succeeded / seconds : 0,
+                results);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.simpleshop.dto.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "상품 이미지 부분 수정 (추가 파일은 images 파트로 전송)")
+public record ProductImagePatchRequest(
+        @Schema(description = "삭제할 이미지 ID", example = "[3]")
+        List<Long> removeIds,
+
+        @Schema(description = "남는 기존 이미지 ID 의 새 순서 (생략 시 기존 순서 유지). 추가 이미지는 그 뒤에 붙습니다.",
+                example = "[5, 4]")
+        List<Long> order
+) {
+    public List<Long> removeIdsOrEmpty() {
+        return removeIds == null ? List.of() : removeIds;
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.simpleshop.dto.product;
 
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 
 @Builder
 public record ProductImageResponse(
         Long id,
         String url,
-        int order
+        int order,
+        @Schema(description = "목록용 축소본 URL (생성 전이면 null -> url 사용)")
+        String thumbnailUrl,
+        @Schema(description = "상세용 중간 크기 URL (생성 전이면 null -> url 사용)")
+        String mediumUrl
 ) {}
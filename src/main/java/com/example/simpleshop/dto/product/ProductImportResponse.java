@@ -0,0 +1,24 @@
+package com.example.simpleshop.dto.product;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "상품 CSV 가져오기 작업 상태")
+public record ProductImportResponse(
+        Long id,
+        String fileName,
+        @Schema(description = "RUNNING | COMPLETED | FAILED")
+        String status,
+        @Schema(description = "커밋된 데이터 행 수 (재개 시 이 행 이후부터 처리)")
+        long committedRows,
+        long succeededRows,
+        long failedRows,
+        @Schema(description = "현재 서버에서 처리 중인지 여부")
+        boolean active,
+        @Schema(description = "이번 실행의 처리 속도 (행 / 초)")
+        double rowsPerSecond,
+        String lastError,
+        Instant createdAt,
+        Instant updatedAt
+) {}
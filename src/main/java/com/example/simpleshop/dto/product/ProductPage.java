@@ -0,0 +1,23 @@
+package com.example.simpleshop.dto.product;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.List;
+
+/**
+ * 기존 페이지 응답 형식에 가격 히스토그램을 덧붙인 목록 응답
+ */
+public class ProductPage extends PageImpl<ProductResponse> {
+
+    private final List<PriceBucket> priceHistogram;
+
+    public ProductPage(Page<ProductResponse> page, List<PriceBucket> priceHistogram) {
+        super(page.getContent(), page.getPageable(), page.getTotalElements());
+        this.priceHistogram = priceHistogram;
+    }
+
+    public List<PriceBucket> getPriceHistogram() {
+        return priceHistogram;
+    }
+}
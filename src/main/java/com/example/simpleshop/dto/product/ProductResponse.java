@@ -13,5 +13,7 @@ public record ProductResponse(
         String description,
         int price,
         List<ProductImageResponse> images, // ✅ 이미지 목록
-        Long writerId
+        Long writerId,
+        @Schema(description = "상품 버전 (ETag 계산용)")
+        Long version
 ) {}
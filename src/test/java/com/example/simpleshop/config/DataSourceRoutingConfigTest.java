@@ -0,0 +1,194 @@
+package com.example.simpleshop.config;
+
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.domain.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 서로 다른 H2 인메모리 DB 두 개를 primary / replica 로 사용 (복제는 하지 않으므로 데이터로 라우팅을 확인)
+ */
+@SpringBootTest(properties = {
+        "app.datasource.routing.enabled=true",
+        "spring.jpa.open-in-view=false",
+        "app.datasource.routing.read-your-writes-window=10s",
+        "app.datasource.primary.jdbc-url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.jdbc-url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc(addFilters = false)
+class DataSourceRoutingConfigTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() {
+        // DataInitializer 의 기본 사용자는 primary 에만 있음
+        assertThat(inTransaction(false)).isPositive();
+        assertThat(inTransaction(true)).isZero();
+    }
+
+    @Test
+    void readsAfterOwnWrite_ShouldUsePrimaryWithinWindow() {
+        MockHttpSession session = new MockHttpSession();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                userRepository.save(User.builder()
+                        .email(UUID.randomUUID() + "@example.com")
+                        .password("{noop}pw")
+                        .nickname("writer")
+                        .build()));
+
+        // 커밋 직후 같은 세션의 읽기 -> primary
+        assertThat(inTransaction(true)).isPositive();
+
+        // 구간이 지나면 다시 replica
+        session.setAttribute(ReadYourWritesWindow.SESSION_ATTRIBUTE, System.currentTimeMillis() - 1);
+        assertThat(inTransaction(true)).isZero();
+    }
+
+    @Test
+    void writeAfterReadInSameRequest_ShouldUsePrimaryAndRecordWindow() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        String email = UUID.randomUUID() + "@example.com";
+
+        mockMvc.perform(post("/test/routing/read-then-write").param("email", email).session(session))
+                .andExpect(status().isOk());
+
+        // 같은 요청의 readOnly 조회가 고른 replica 커넥션을 쓰기가 이어 쓰지 않음
+        assertThat(session.getAttribute(ReadYourWritesWindow.SESSION_ATTRIBUTE)).isInstanceOf(Long.class);
+        assertThat(new TransactionTemplate(transactionManager).execute(status -> userRepository.findByEmail(email)))
+                .isPresent();
+    }
+
+    @Test
+    void routing_ShouldRequireOpenInViewDisabled() {
+        assertThatThrownBy(() -> new DataSourceRoutingConfig().routingDataSource(null, null, Duration.ofSeconds(5), true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("open-in-view");
+    }
+
+    @Test
+    void shouldExposeMetricsPerPool() {
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica").gauge()).isNotNull();
+    }
+
+    private long inTransaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> userRepository.count());
+    }
+
+    @TestConfiguration
+    static class ReplicaSchemaConfig {
+
+        @Bean
+        ReadThenWriteController readThenWriteController(UserRepository userRepository,
+                                                        PlatformTransactionManager transactionManager) {
+            return new ReadThenWriteController(userRepository, transactionManager);
+        }
+
+        // 복제 대신 Hibernate 가 primary 에 만든 스키마를 replica 에도 생성 (데이터는 복사하지 않음)
+        @Bean
+        static BeanPostProcessor replicaSchemaCopier() {
+            return new ReplicaSchemaCopier();
+        }
+    }
+
+    // 한 요청에서 readOnly 조회 후 쓰기
+    @RestController
+    static class ReadThenWriteController {
+
+        private final UserRepository userRepository;
+        private final TransactionTemplate readOnly;
+        private final TransactionTemplate readWrite;
+
+        ReadThenWriteController(UserRepository userRepository, PlatformTransactionManager transactionManager) {
+            this.userRepository = userRepository;
+            this.readOnly = new TransactionTemplate(transactionManager);
+            this.readOnly.setReadOnly(true);
+            this.readWrite = new TransactionTemplate(transactionManager);
+        }
+
+        @PostMapping("/test/routing/read-then-write")
+        void readThenWrite(@RequestParam String email) {
+            readOnly.execute(status -> userRepository.findByEmail(email));
+            readWrite.executeWithoutResult(status -> userRepository.save(User.builder()
+                    .email(email)
+                    .password("{noop}pw")
+                    .nickname("writer")
+                    .build()));
+        }
+    }
+
+    static class ReplicaSchemaCopier implements BeanPostProcessor, BeanFactoryAware {
+
+        private BeanFactory beanFactory;
+
+        @Override
+        public void setBeanFactory(BeanFactory beanFactory) {
+            this.beanFactory = beanFactory;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+            if (bean instanceof EntityManagerFactory) {
+                JdbcTemplate primary = new JdbcTemplate(beanFactory.getBean("primaryDataSource", DataSource.class));
+                JdbcTemplate replica = new JdbcTemplate(beanFactory.getBean("replicaDataSource", DataSource.class));
+                primary.queryForList("SCRIPT NODATA", String.class).stream()
+                        .filter(sql -> !sql.startsWith("CREATE USER"))
+                        .forEach(replica::execute);
+            }
+            return bean;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.simpleshop.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final RateLimitFilter filter = new RateLimitFilter(new RateLimitProperties(true, 1000, Duration.ofMinutes(10),
+            List.of(
+                    new RateLimitProperties.Group("auth", List.of("/api/users/login"), List.of(), 2, 0.01),
+                    new RateLimitProperties.Group("read", List.of("/api/products/**"), List.of("GET"), 1, 0.01))));
+
+    @Test
+    void shouldRespond429WithRetryAfterWhenLimitExceeded() throws Exception {
+        assertThat(perform("POST", "/api/users/login", "10.0.0.1", null).getStatus()).isEqualTo(200);
+        assertThat(perform("POST", "/api/users/login", "10.0.0.1", null).getStatus()).isEqualTo(200);
+
+        MockHttpServletResponse rejected = perform("POST", "/api/users/login", "10.0.0.1", null);
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isPositive();
+        assertThat(rejected.getContentAsString()).contains("Too Many Requests");
+        // 다른 IP 는 별도 버킷
+        assertThat(perform("POST", "/api/users/login", "10.0.0.2", null).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldKeyBySessionUserAndSkipUnmatchedRoutes() throws Exception {
+        MockHttpSession alice = new MockHttpSession();
+        alice.setAttribute("USER_ID", 1L);
+        MockHttpSession bob = new MockHttpSession();
+        bob.setAttribute("USER_ID", 2L);
+
+        assertThat(perform("GET", "/api/products/1", "10.0.0.1", alice).getStatus()).isEqualTo(200);
+        assertThat(perform("GET", "/api/products/1", "10.0.0.1", alice).getStatus()).isEqualTo(429);
+        // 같은 IP 라도 사용자가 다르면 별도
+        assertThat(perform("GET", "/api/products/1", "10.0.0.1", bob).getStatus()).isEqualTo(200);
+        // 그룹에 해당하지 않는 메서드/경로는 제한 없음
+        assertThat(perform("PUT", "/api/products/1", "10.0.0.1", alice).getStatus()).isEqualTo(200);
+        assertThat(perform("GET", "/swagger-ui/index.html", "10.0.0.1", alice).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldKeyIpv6ClientsByPrefix() throws Exception {
+        assertThat(perform("GET", "/api/products/1", "2001:db8:1:2::1", null).getStatus()).isEqualTo(200);
+        // 같은 /64 안에서 주소를 바꿔도 같은 버킷
+        assertThat(perform("GET", "/api/products/1", "2001:db8:1:2:abcd::99", null).getStatus()).isEqualTo(429);
+        assertThat(perform("GET", "/api/products/1", "2001:db8:1:3::1", null).getStatus()).isEqualTo(200);
+
+        assertThat(RateLimitFilter.networkOf("2001:db8:1:2:ffff:ffff:ffff:ffff")).isEqualTo("2001:db8:1:2::/64");
+        assertThat(RateLimitFilter.networkOf("10.0.0.1")).isEqualTo("10.0.0.1");
+        assertThat(RateLimitFilter.networkOf("::ffff:10.0.0.1")).isEqualTo("10.0.0.1");
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String remoteAddr, MockHttpSession session)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        if (session != null) {
+            request.setSession(session);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.simpleshop.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void tryAcquire_ShouldAllowBurstThenRefillAtConfiguredRate() {
+        RateLimiter limiter = new RateLimiter(3, 2.0, 100, 60 * SECOND);
+        long now = 0;
+
+        assertThat(limiter.tryAcquire("a", now)).isZero();
+        assertThat(limiter.tryAcquire("a", now)).isZero();
+        assertThat(limiter.tryAcquire("a", now)).isZero();
+        // 초당 2개 -> 0.5초 후 1개 보충
+        assertThat(limiter.tryAcquire("a", now)).isEqualTo(SECOND / 2);
+
+        assertThat(limiter.tryAcquire("a", now + SECOND / 2)).isZero();
+        assertThat(limiter.tryAcquire("a", now + SECOND / 2)).isPositive();
+        // 다른 키는 영향 없음
+        assertThat(limiter.tryAcquire("b", now)).isZero();
+    }
+
+    @Test
+    void tryAcquire_ShouldStillLimitKeysBeyondTableSize() {
+        RateLimiter limiter = new RateLimiter(1, 1.0, 2, 60 * SECOND);
+
+        limiter.tryAcquire("a", 0);
+        limiter.tryAcquire("b", 0);
+
+        // 테이블에 들어가지 않은 키도 공용 버킷으로 제한됨
+        assertThat(limiter.tryAcquire("c", 0)).isZero();
+        assertThat(limiter.tryAcquire("c", 0)).isPositive();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void tryAcquire_ShouldAdmitUnrelatedKeyAfterTableIsFilled() {
+        int maxKeys = 1000;
+        RateLimiter limiter = new RateLimiter(1, 0.001, maxKeys, 60 * SECOND);
+        // 공격자가 키를 바꿔 가며 테이블을 가득 채우고, 넘친 키로도 계속 요청
+        for (int i = 0; i < maxKeys; i++) {
+            limiter.tryAcquire("attacker-" + i, 0);
+        }
+        String overflowKey = "attacker-" + maxKeys;
+        limiter.tryAcquire(overflowKey, 0);
+        assertThat(limiter.tryAcquire(overflowKey, 0)).isPositive();
+
+        String visitor = "visitor";
+        for (int i = 0; RateLimiter.stripeOf(visitor) == RateLimiter.stripeOf(overflowKey); i++) {
+            visitor = "visitor-" + i;
+        }
+        assertThat(limiter.size()).isEqualTo(maxKeys);
+        assertThat(limiter.tryAcquire(visitor, 0)).isZero();
+    }
+
+    @Test
+    void evictIdle_ShouldRemoveOnlyKeysIdleLongerThanTimeout() {
+        RateLimiter limiter = new RateLimiter(1, 1.0, 100, 10 * SECOND);
+        limiter.tryAcquire("old", 0);
+        limiter.tryAcquire("recent", 15 * SECOND);
+
+        assertThat(limiter.evictIdle(20 * SECOND)).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void tryAcquire_ShouldNotOverAdmitUnderContention() throws Exception {
+        // 보충이 사실상 없으므로 정확히 capacity 개만 허용되어야 함
+        RateLimiter limiter = new RateLimiter(1000, 0.001, 100, 60 * SECOND);
+        AtomicInteger allowed = new AtomicInteger();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 500; i++) {
+                    if (limiter.tryAcquire("shared", 0) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed).hasValue(1000);
+    }
+}
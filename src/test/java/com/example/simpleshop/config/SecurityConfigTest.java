@@ -1,11 +1,13 @@
 package com.example.simpleshop.config;
 
+import com.example.simpleshop.domain.user.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
@@ -13,13 +15,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import org.springframework.http.MediaType;
 
-@SpringBootTest
+@SpringBootTest(properties = "app.security.operator-emails=bob@example.com")
 @AutoConfigureMockMvc
 class SecurityConfigTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private UserRepository userRepository;
+
     @Test
     void whenAccessingSwaggerUI_thenSuccess() throws Exception {
         mockMvc.perform(get("/swagger-ui/index.html"))
@@ -60,6 +65,44 @@ class SecurityConfigTest {
                 .andExpect(status().isOk());
     }
     
+    @Test
+    void actuatorHealth_ShouldBePublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void actuatorMetrics_ShouldRequireOperatorRole() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().is4xxClientError());
+
+        // 회원가입만 하면 되는 일반 사용자는 거부
+        mockMvc.perform(get("/actuator/metrics").sessionAttr("USER_ID", userId("alice@example.com")))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/actuator/metrics").sessionAttr("USER_ID", userId("bob@example.com")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void slowQueries_ShouldRequireOperatorRoleToReadAndReset() throws Exception {
+        Long alice = userId("alice@example.com");
+        mockMvc.perform(get("/actuator/slowqueries").sessionAttr("USER_ID", alice))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/slowqueries").sessionAttr("USER_ID", alice))
+                .andExpect(status().isForbidden());
+
+        Long bob = userId("bob@example.com");
+        mockMvc.perform(get("/actuator/slowqueries").sessionAttr("USER_ID", bob))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/actuator/slowqueries").sessionAttr("USER_ID", bob))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    private Long userId(String email) {
+        return userRepository.findByEmail(email).orElseThrow().getId();
+    }
+
     @Test
     void testCorsConfiguration() throws Exception {
         mockMvc.perform(options("/api/users/login")
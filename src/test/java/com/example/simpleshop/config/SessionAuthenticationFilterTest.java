@@ -0,0 +1,106 @@
+package com.example.simpleshop.config;
+
+import com.example.simpleshop.domain.user.SessionUser;
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.domain.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SessionAuthenticationFilterTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SessionAuthenticationFilter filter = new SessionAuthenticationFilter(userRepository, List.of("bob@example.com"));
+    private final HttpSessionSecurityContextRepository contextRepository = new HttpSessionSecurityContextRepository();
+
+    private MockHttpSession session;
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user(1L, "alice@example.com")));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user(2L, "bob@example.com")));
+
+        session = new MockHttpSession();
+        session.setAttribute("USER_ID", 1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void requestsOnOneSession_ShouldLookUpUserAtMostOnce() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            Authentication authentication = perform();
+
+            assertThat(authentication).isNotNull();
+            assertThat(authentication.getPrincipal()).isEqualTo(new SessionUser(1L, "alice@example.com", "alice"));
+        }
+
+        verify(userRepository, times(1)).findById(1L);
+        assertThat(session.getAttribute("LAST_ACCESS")).isNull();
+    }
+
+    @Test
+    void reLoginAsAnotherUser_ShouldResolveNewPrincipal() throws Exception {
+        perform();
+        session.setAttribute("USER_ID", 2L);
+
+        Authentication authentication = perform();
+
+        assertThat(((SessionUser) authentication.getPrincipal()).id()).isEqualTo(2L);
+        verify(userRepository, times(1)).findById(2L);
+    }
+
+    @Test
+    void operatorEmail_ShouldGrantOperatorRole() throws Exception {
+        assertThat(perform().getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+
+        session.setAttribute("USER_ID", 2L);
+        assertThat(perform().getAuthorities()).extracting(Object::toString)
+                .containsExactlyInAnyOrder("ROLE_USER", "ROLE_OPERATOR");
+    }
+
+    // SecurityContextHolderFilter 처럼 요청마다 세션에서 SecurityContext 를 복원한 뒤 필터를 실행
+    private Authentication perform() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.setServletPath("/api/users/me");
+        request.setSession(session);
+
+        SecurityContextHolder.setContext(contextRepository.loadDeferredContext(request).get());
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private User user(Long id, String email) {
+        User user = User.builder()
+                .email(email)
+                .password("{noop}password123")
+                .nickname(email.substring(0, email.indexOf('@')))
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.simpleshop.config;
+
+import com.example.simpleshop.domain.product.ProductRepository;
+import com.example.simpleshop.domain.product.ProductService;
+import com.example.simpleshop.dto.product.ProductRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 문장을 느린 쿼리로 기록해 호출 위치를 확인
+ */
+@SpringBootTest(properties = "db.slow-query.threshold=0ms")
+@ExtendWith(OutputCaptureExtension.class)
+class SlowQueryCallerTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void insertFlushedAtCommit_ShouldReportServiceMethod(CapturedOutput output) {
+        // SEQUENCE id + batch_size 라 INSERT 는 create 가 끝난 뒤 커밋 시점에 실행됨
+        productService.create(new ProductRequest("느린 쿼리 상품", "설명", 1000));
+
+        assertThat(output.getOut().lines().filter(line -> line.contains("insert into product ")))
+                .isNotEmpty()
+                .allSatisfy(line -> assertThat(line).contains("호출: ProductService.create,"));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.simpleshop.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlowQueryMonitor monitor = new SlowQueryMonitor(Duration.ofMillis(100), 3, meterRegistry);
+
+    @Test
+    void top_ShouldGroupByShapeAndSortByTotalTime() {
+        for (int id = 0; id < 10; id++) {
+            monitor.record("select * from product where id = " + id, millis(1));
+        }
+        monitor.record("select * from users where email = 'a@example.com'", millis(50));
+
+        List<SlowQueryMonitor.ShapeReport> top = monitor.top(10, "total");
+
+        assertThat(top).extracting(SlowQueryMonitor.ShapeReport::sql)
+                .containsExactly("select * from users where email = ?", "select * from product where id = ?");
+        assertThat(top.get(1).count()).isEqualTo(10);
+        assertThat(top.get(1).totalMillis()).isEqualTo(10.0);
+        assertThat(meterRegistry.get("db.query").timer().count()).isEqualTo(11);
+    }
+
+    @Test
+    void report_ShouldApproximatePercentilesWithinBucket() {
+        for (int i = 0; i < 99; i++) {
+            monitor.record("select 1", millis(1));
+        }
+        monitor.record("select 1", millis(500));
+
+        SlowQueryMonitor.ShapeReport report = monitor.top(1, "p99").get(0);
+
+        // 1ms(1000us) 는 [512us, 1024us) 버킷 -> 버킷 상한 1.024ms 로 근사
+        assertThat(report.p50Millis()).isEqualTo(1.024);
+        assertThat(report.p99Millis()).isEqualTo(1.024);
+        assertThat(report.maxMillis()).isEqualTo(500.0);
+    }
+
+    @Test
+    void record_ShouldMergeShapesBeyondLimit() {
+        for (int i = 0; i < 10; i++) {
+            monitor.record("select * from table_" + (char) ('a' + i), millis(1));
+        }
+
+        List<SlowQueryMonitor.ShapeReport> top = monitor.top(10, "count");
+        assertThat(top).hasSize(4);
+        assertThat(top.get(0).sql()).isEqualTo("(other)");
+        assertThat(top.get(0).count()).isEqualTo(7);
+    }
+
+    @Test
+    void callerOf_ShouldReturnFirstApplicationFrame() {
+        assertThat(SlowQueryMonitor.callerOf()).startsWith("SlowQueryMonitorTest.callerOf_ShouldReturnFirstApplicationFrame:");
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.simpleshop.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlShapeTest {
+
+    @Test
+    void of_ShouldReplaceLiteralsAndCollapseInLists() {
+        String a = SqlShape.of("/* load Product */ select p1_0.id from product p1_0 " +
+                "where p1_0.id in (?, ?, ?) and p1_0.name = 'it''s' limit 10");
+        String b = SqlShape.of("select p1_0.id from product p1_0\n  where p1_0.id in (?) and p1_0.name = 'x' limit 20");
+
+        assertThat(a).isEqualTo(b)
+                .isEqualTo("select p1_0.id from product p1_0 where p1_0.id in (?...) and p1_0.name = ? limit ?");
+    }
+
+    @Test
+    void of_ShouldKeepIdentifiersContainingDigits() {
+        assertThat(SqlShape.of("select i1_0.image_order from product_image i1_0 where i1_0.product_id=5"))
+                .isEqualTo("select i1_0.image_order from product_image i1_0 where i1_0.product_id=?");
+    }
+
+    @Test
+    void of_ShouldTreatMultiRowValuesAsOneShape() {
+        assertThat(SqlShape.of("insert into t (a, b) values (?, ?), (?, ?), (?, ?)"))
+                .isEqualTo(SqlShape.of("insert into t (a, b) values (?, ?)"));
+    }
+}
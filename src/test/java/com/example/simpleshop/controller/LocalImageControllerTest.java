@@ -0,0 +1,74 @@
+package com.example.simpleshop.controller;
+
+import com.example.simpleshop.domain.common.LocalImageStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class LocalImageControllerTest {
+
+    @TempDir
+    private Path root;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Files.writeString(root.resolve("photo.jpg"), "0123456789");
+        Files.writeString(root.resolve("page.html"), "<script>alert(1)</script>");
+        LocalImageStore store = new LocalImageStore(root.toString(), "/images/");
+        mockMvc = MockMvcBuilders.standaloneSetup(new LocalImageController(store)).build();
+    }
+
+    @Test
+    void serve_ShouldReturnWholeFile() throws Exception {
+        mockMvc.perform(get("/images/photo.jpg"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 10))
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andExpect(content().string("0123456789"));
+    }
+
+    @Test
+    void serve_ShouldReturnPartialContentForRange() throws Exception {
+        mockMvc.perform(get("/images/photo.jpg").header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10"))
+                .andExpect(content().string("2345"));
+
+        mockMvc.perform(get("/images/photo.jpg").header(HttpHeaders.RANGE, "bytes=-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().string("789"));
+    }
+
+    @Test
+    void serve_ShouldRejectUnsatisfiableRangeAndMissingFiles() throws Exception {
+        mockMvc.perform(get("/images/photo.jpg").header(HttpHeaders.RANGE, "bytes=10-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */10"));
+
+        mockMvc.perform(get("/images/missing.jpg"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void serve_ShouldNotRenderNonImageTypes() throws Exception {
+        mockMvc.perform(get("/images/page.html"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/octet-stream"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andExpect(header().string("Content-Security-Policy", "default-src 'none'; sandbox"));
+    }
+}
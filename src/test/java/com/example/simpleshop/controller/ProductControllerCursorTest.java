@@ -0,0 +1,137 @@
+package com.example.simpleshop.controller;
+
+import com.example.simpleshop.domain.product.Product;
+import com.example.simpleshop.domain.product.ProductRepository;
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.domain.user.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 커서 페이징: 같은 가격이 페이지 경계에 걸쳐도 빠짐/중복 없이 (price, id) 순서를 유지하는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+class ProductControllerCursorTest {
+
+    private static final int[] PRICES = {1000, 2000, 1000, 1000, 3000, 2000, 1000};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        productRepository.deleteAll();
+        User writer = userRepository.findByEmail("alice@example.com").orElseThrow();
+        for (int i = 0; i < PRICES.length; i++) {
+            products.add(productRepository.save(Product.builder()
+                    .name("커서 상품 " + i)
+                    .description("설명")
+                    .price(PRICES[i])
+                    .writer(writer)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void priceAsc_ShouldBreakTiesByIdAcrossPages() throws Exception {
+        List<Long> expected = products.stream()
+                .sorted(Comparator.comparingInt(Product::getPrice).thenComparing(Product::getId))
+                .map(Product::getId)
+                .toList();
+
+        assertThat(collectIds("priceAsc", 2)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void priceDesc_ShouldBreakTiesByIdAcrossPages() throws Exception {
+        List<Long> expected = products.stream()
+                .sorted(Comparator.comparingInt(Product::getPrice).thenComparing(Product::getId).reversed())
+                .map(Product::getId)
+                .toList();
+
+        assertThat(collectIds("priceDesc", 2)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void latest_ShouldPageByIdDescending() throws Exception {
+        List<Long> expected = products.stream()
+                .map(Product::getId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        assertThat(collectIds("latest", 3)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void malformedCursor_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/products").param("cursor", "%%%").param("sortBy", "priceAsc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("잘못된 cursor 입니다."));
+
+        // 최신순 cursor(id 만)를 가격 정렬에 사용
+        String latestCursor = firstPage("latest", 1).path("nextCursor").asText();
+        mockMvc.perform(get("/api/products").param("cursor", latestCursor).param("sortBy", "priceDesc"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // 첫 페이지부터 nextCursor 를 따라가며 id 수집
+    private List<Long> collectIds(String sortBy, int size) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        JsonNode page = firstPage(sortBy, size);
+        while (true) {
+            page.path("content").forEach(product -> ids.add(product.path("id").asLong()));
+            if (!page.path("hasNext").asBoolean()) {
+                assertThat(page.path("nextCursor").isNull()).isTrue();
+                return ids;
+            }
+            page = page(page.path("nextCursor").asText(), sortBy, size);
+        }
+    }
+
+    private JsonNode firstPage(String sortBy, int size) throws Exception {
+        return page("", sortBy, size);
+    }
+
+    private JsonNode page(String cursor, String sortBy, int size) throws Exception {
+        String body = mockMvc.perform(get("/api/products")
+                        .param("cursor", cursor)
+                        .param("size", String.valueOf(size))
+                        .param("sortBy", sortBy))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).path("data");
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.simpleshop.controller;
+
+import com.example.simpleshop.domain.product.Product;
+import com.example.simpleshop.domain.product.ProductImage;
+import com.example.simpleshop.domain.product.ProductRepository;
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.domain.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 상세/목록 ETag 와 If-None-Match 304, 수정 후 ETag 변경 확인 (인증 필터 제외)
+ */
+@SpringBootTest(properties = {
+        "image.store=local",
+        "file.upload-dir=build/test-uploads/etag"
+})
+@AutoConfigureMockMvc(addFilters = false)
+class ProductControllerETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        User writer = userRepository.findByEmail("alice@example.com").orElseThrow();
+        Product product = Product.builder()
+                .name("ETag 상품")
+                .description("설명")
+                .price(1000)
+                .writer(writer)
+                .build();
+        for (int order = 0; order < 3; order++) {
+            product.getImages().add(ProductImage.builder()
+                    .imageUrl("/images/etag_" + order + ".jpg")
+                    .imageOrder(order)
+                    .product(product)
+                    .build());
+        }
+        productId = productRepository.save(product).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void findById_ShouldReturnNotModifiedForSameETag() throws Exception {
+        String eTag = detailETag();
+
+        mockMvc.perform(get("/api/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    @Test
+    void findById_ShouldChangeETagAfterUpdate() throws Exception {
+        String eTag = detailETag();
+
+        mockMvc.perform(put("/api/products/{id}", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"변경된 이름\",\"description\":\"설명\",\"price\":2000}"))
+                .andExpect(status().isOk());
+
+        assertChanged(eTag);
+    }
+
+    @Test
+    void findById_ShouldChangeETagAfterImagePatch() throws Exception {
+        String eTag = detailETag();
+        List<Long> imageIds = imageIds();
+        MockMultipartFile changes = new MockMultipartFile("changes", "", MediaType.APPLICATION_JSON_VALUE,
+                ("{\"order\":[" + imageIds.get(2) + "," + imageIds.get(1) + "," + imageIds.get(0) + "]}").getBytes());
+
+        mockMvc.perform(multipart(HttpMethod.PATCH, "/api/products/{id}/images", productId).file(changes))
+                .andExpect(status().isOk());
+
+        assertChanged(eTag);
+    }
+
+    @Test
+    void findById_ShouldChangeETagAfterImageDelete() throws Exception {
+        String eTag = detailETag();
+
+        mockMvc.perform(delete("/api/products/{id}/images/{imageId}", productId, imageIds().get(0)))
+                .andExpect(status().isOk());
+
+        assertChanged(eTag);
+    }
+
+    @Test
+    void findAll_ShouldReturnNotModifiedUntilPageChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/api/products").param("size", "10"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+
+        mockMvc.perform(get("/api/products").param("size", "10").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/products/{id}", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"변경된 이름\",\"description\":\"설명\",\"price\":2000}"))
+                .andExpect(status().isOk());
+
+        String changed = mockMvc.perform(get("/api/products").param("size", "10").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotNull().isNotEqualTo(eTag);
+    }
+
+    private String detailETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+        return eTag;
+    }
+
+    // 이전 ETag 로 요청하면 304 가 아니라 새 ETag 와 함께 200
+    private void assertChanged(String previous) throws Exception {
+        String current = mockMvc.perform(get("/api/products/{id}", productId).header(HttpHeaders.IF_NONE_MATCH, previous))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(current).isNotNull().isNotEqualTo(previous);
+    }
+
+    private List<Long> imageIds() {
+        return transactionTemplate.execute(status -> productRepository.findById(productId).orElseThrow()
+                .getImages().stream()
+                .sorted(Comparator.comparingInt(ProductImage::getImageOrder))
+                .map(ProductImage::getId)
+                .toList());
+    }
+}
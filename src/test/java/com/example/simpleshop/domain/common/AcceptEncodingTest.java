@@ -0,0 +1,33 @@
+package com.example.simpleshop.domain.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcceptEncodingTest {
+
+    @Test
+    void gzipCoding_ShouldAcceptGzipWithPositiveQuality() {
+        assertThat(AcceptEncoding.gzipCoding("gzip")).isEqualTo("gzip");
+        assertThat(AcceptEncoding.gzipCoding("br, gzip;q=0.5, deflate")).isEqualTo("gzip");
+        assertThat(AcceptEncoding.gzipCoding("GZIP ; Q=1.0")).isEqualTo("gzip");
+        assertThat(AcceptEncoding.gzipCoding("br;q=1, *;q=0.1")).isEqualTo("gzip");
+    }
+
+    @Test
+    void gzipCoding_ShouldRejectZeroQualityOrMissingGzip() {
+        assertThat(AcceptEncoding.gzipCoding(null)).isNull();
+        assertThat(AcceptEncoding.gzipCoding("gzip;q=0")).isNull();
+        assertThat(AcceptEncoding.gzipCoding("gzip;q=0.000, *")).isNull();
+        assertThat(AcceptEncoding.gzipCoding("br, deflate")).isNull();
+        assertThat(AcceptEncoding.gzipCoding("*;q=0")).isNull();
+        assertThat(AcceptEncoding.gzipCoding("gzip;q=abc")).isNull();
+        assertThat(AcceptEncoding.gzipCoding("identity, gzipx")).isNull();
+    }
+
+    @Test
+    void gzipCoding_ShouldAnswerXGzipOnlyClientsWithXGzip() {
+        assertThat(AcceptEncoding.gzipCoding("x-gzip")).isEqualTo("x-gzip");
+        assertThat(AcceptEncoding.gzipCoding("x-gzip;q=0")).isNull();
+    }
+}
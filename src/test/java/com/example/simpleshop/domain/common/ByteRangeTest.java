@@ -0,0 +1,32 @@
+package com.example.simpleshop.domain.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRangeTest {
+
+    @Test
+    void parse_ShouldHandleSingleRanges() {
+        assertThat(ByteRange.parse("bytes=0-99", 1000)).isEqualTo(new ByteRange(0, 99));
+        assertThat(ByteRange.parse("bytes=900-", 1000)).isEqualTo(new ByteRange(900, 999));
+        assertThat(ByteRange.parse("bytes=-100", 1000)).isEqualTo(new ByteRange(900, 999));
+        assertThat(ByteRange.parse("bytes=500-5000", 1000)).isEqualTo(new ByteRange(500, 999));
+        assertThat(ByteRange.parse("bytes=-5000", 1000)).isEqualTo(new ByteRange(0, 999));
+    }
+
+    @Test
+    void parse_ShouldIgnoreMissingOrMalformedRanges() {
+        assertThat(ByteRange.parse(null, 1000)).isEqualTo(ByteRange.full(1000));
+        assertThat(ByteRange.parse("bytes=0-1,5-6", 1000)).isEqualTo(ByteRange.full(1000));
+        assertThat(ByteRange.parse("bytes=abc", 1000)).isEqualTo(ByteRange.full(1000));
+        assertThat(ByteRange.parse("bytes=10-5", 1000)).isEqualTo(ByteRange.full(1000));
+        assertThat(ByteRange.full(1000).isPartial(1000)).isFalse();
+    }
+
+    @Test
+    void parse_ShouldReturnNullWhenUnsatisfiable() {
+        assertThat(ByteRange.parse("bytes=1000-", 1000)).isNull();
+        assertThat(ByteRange.parse("bytes=-0", 1000)).isNull();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.simpleshop.domain.common;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Error;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 인메모리 오브젝트 스토어. 키 또는 본문의 접미사(파일명)별로 지연과 실패를 지정할 수 있다.
+ */
+class FakeS3Client implements S3Client {
+
+    final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    final Map<String, Long> latencyMillis = new ConcurrentHashMap<>();
+    final Map<String, Boolean> failures = new ConcurrentHashMap<>();
+    final Set<String> undeletableKeys = ConcurrentHashMap.newKeySet();
+    final List<Integer> deleteBatchSizes = new CopyOnWriteArrayList<>();
+    final AtomicInteger requests = new AtomicInteger();
+    // 동시에 진행 중인 업로드 수와 그 최댓값
+    final AtomicInteger inFlightPuts = new AtomicInteger();
+    final AtomicInteger maxInFlightPuts = new AtomicInteger();
+    // 삭제 요청 처리 직전에 실행 (삭제 도중 끼어드는 요청 재현용)
+    volatile Runnable beforeDelete = () -> {
+    };
+
+    @Override
+    public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+        requests.incrementAndGet();
+        maxInFlightPuts.accumulateAndGet(inFlightPuts.incrementAndGet(), Math::max);
+        try {
+            return put(request, body);
+        } finally {
+            inFlightPuts.decrementAndGet();
+        }
+    }
+
+    private PutObjectResponse put(PutObjectRequest request, RequestBody body) {
+        String key = request.key();
+        byte[] content;
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            content = in.readAllBytes();
+        } catch (IOException e) {
+            throw SdkClientException.create("본문 읽기 실패", e);
+        }
+        // 키가 내용 해시라서 테스트 데이터 끝에 붙인 파일명으로도 찾는다
+        String text = new String(content, StandardCharsets.UTF_8);
+        sleep(latencyFor(key, text));
+
+        if (failures.keySet().stream().anyMatch(name -> key.endsWith(name) || text.endsWith(name))) {
+            throw SdkClientException.create("업로드 실패: " + key);
+        }
+
+        objects.put(key, content);
+        return PutObjectResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+        requests.incrementAndGet();
+        deleteBatchSizes.add(request.delete().objects().size());
+        beforeDelete.run();
+
+        List<S3Error> errors = new ArrayList<>();
+        for (ObjectIdentifier object : request.delete().objects()) {
+            if (undeletableKeys.contains(object.key())) {
+                errors.add(S3Error.builder().key(object.key()).code("AccessDenied").message("Access Denied").build());
+                continue;
+            }
+            objects.remove(object.key());
+        }
+        return DeleteObjectsResponse.builder().errors(errors).build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private long latencyFor(String key, String text) {
+        return latencyMillis.entrySet().stream()
+                .filter(entry -> key.endsWith(entry.getKey()) || text.endsWith(entry.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .findFirst()
+                .orElse(0L);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.simpleshop.domain.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * outbox 저장/재시도는 실제 DB, 오브젝트 삭제는 FakeS3Client 로 확인
+ */
+@SpringBootTest(properties = "image.outbox.poll-interval-ms=3600000")
+class ImageOutboxServiceTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private ImageOutboxRepository imageOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final FakeS3Client s3Client = new FakeS3Client();
+    private ImageService imageService;
+    private ImageOutboxService imageOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        imageService = new ImageService(new S3ImageStore(s3Client, "test-bucket", "ap-northeast-2"),
+                new InMemoryImageBlobRegistry(), 4, new SimpleMeterRegistry());
+        imageOutboxService = new ImageOutboxService(imageOutboxRepository, imageService, transactionTemplate,
+                100, MAX_ATTEMPTS);
+        s3Client.objects.put("a.jpg", new byte[0]);
+        s3Client.objects.put("b.jpg", new byte[0]);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageOutboxService.shutdown();
+        imageService.shutdown();
+        imageOutboxRepository.deleteAll();
+    }
+
+    @Test
+    void enqueueDelete_ShouldDeleteOnlyAfterCommit() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            imageOutboxService.enqueueDelete(urls("a.jpg", "b.jpg"));
+            // 커밋 전에는 저장소를 호출하지 않음
+            assertThat(s3Client.requests.get()).isZero();
+        });
+
+        awaitUntil(() -> s3Client.objects.isEmpty() && imageOutboxRepository.count() == 0);
+        assertThat(s3Client.deleteBatchSizes).containsExactly(2);
+    }
+
+    @Test
+    void enqueueDelete_ShouldNotDeleteWhenRolledBack() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            imageOutboxService.enqueueDelete(urls("a.jpg"));
+            status.setRollbackOnly();
+        });
+
+        Thread.sleep(200);
+        assertThat(s3Client.requests.get()).isZero();
+        assertThat(s3Client.objects).containsKey("a.jpg");
+        assertThat(imageOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    void dispatch_ShouldKeepFailedKeysPendingWithBackoff() {
+        s3Client.undeletableKeys.add("b.jpg");
+        enqueueWithoutTrigger("a.jpg", "b.jpg");
+
+        Instant before = Instant.now();
+        imageOutboxService.dispatch();
+
+        List<ImageOutbox> remaining = imageOutboxRepository.findAll();
+        assertThat(remaining).singleElement().satisfies(entry -> {
+            assertThat(entry.getImageUrl()).isEqualTo(imageService.toUrl("b.jpg"));
+            assertThat(entry.getStatus()).isEqualTo(ImageOutboxStatus.PENDING);
+            assertThat(entry.getAttempts()).isEqualTo(1);
+            assertThat(entry.getLastError()).contains("AccessDenied");
+            assertThat(entry.getNextAttemptAt()).isAfter(before);
+        });
+        assertThat(s3Client.objects).containsOnlyKeys("b.jpg");
+
+        // 재시도 시각 전에는 다시 시도하지 않음
+        int requests = s3Client.requests.get();
+        imageOutboxService.dispatch();
+        assertThat(s3Client.requests.get()).isEqualTo(requests);
+        assertThat(imageOutboxRepository.findAll()).singleElement()
+                .satisfies(entry -> assertThat(entry.getAttempts()).isEqualTo(1));
+    }
+
+    @Test
+    void dispatch_ShouldMarkFailedAfterMaxAttempts() {
+        s3Client.undeletableKeys.add("b.jpg");
+        enqueueWithoutTrigger("b.jpg");
+
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            makeDue();
+            imageOutboxService.dispatch();
+        }
+
+        ImageOutbox entry = imageOutboxRepository.findAll().get(0);
+        assertThat(entry.getStatus()).isEqualTo(ImageOutboxStatus.FAILED);
+        assertThat(entry.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+
+        // FAILED 는 더 이상 처리하지 않음
+        int requests = s3Client.requests.get();
+        makeDue();
+        imageOutboxService.dispatch();
+        assertThat(s3Client.requests.get()).isEqualTo(requests);
+    }
+
+    // 커밋 후 트리거 없이 행만 저장 (dispatch 를 직접 호출해 확인)
+    private void enqueueWithoutTrigger(String... keys) {
+        imageOutboxRepository.saveAll(urls(keys).stream().map(ImageOutbox::delete).toList());
+    }
+
+    private void makeDue() {
+        jdbcTemplate.update("update image_outbox set next_attempt_at = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofSeconds(1))));
+    }
+
+    private List<String> urls(String... keys) {
+        return Arrays.stream(keys).map(imageService::toUrl).toList();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("outbox 처리가 끝나지 않았습니다.");
+    }
+}
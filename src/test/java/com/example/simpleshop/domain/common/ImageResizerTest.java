@@ -0,0 +1,38 @@
+package com.example.simpleshop.domain.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResizerTest {
+
+    @Test
+    void scaleToWidth_ShouldKeepAspectRatio() throws Exception {
+        BufferedImage original = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage thumbnail = ImageResizer.scaleToWidth(original, 200);
+
+        assertThat(thumbnail.getWidth()).isEqualTo(200);
+        assertThat(thumbnail.getHeight()).isEqualTo(150);
+
+        BufferedImage decoded = ImageResizer.decode(ImageResizer.encode(thumbnail));
+        assertThat(decoded.getWidth()).isEqualTo(200);
+        assertThat(ImageResizer.contentTypeOf(thumbnail)).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    void scaleToWidth_ShouldNotUpscaleAndShouldKeepAlpha() {
+        BufferedImage small = new BufferedImage(100, 80, BufferedImage.TYPE_INT_ARGB);
+        assertThat(ImageResizer.scaleToWidth(small, 200)).isSameAs(small);
+
+        BufferedImage transparent = new BufferedImage(1000, 500, BufferedImage.TYPE_INT_ARGB);
+        assertThat(ImageResizer.formatOf(ImageResizer.scaleToWidth(transparent, 300))).isEqualTo("png");
+    }
+
+    @Test
+    void decode_ShouldReturnNullForNonImage() throws Exception {
+        assertThat(ImageResizer.decode("not an image".getBytes())).isNull();
+    }
+}
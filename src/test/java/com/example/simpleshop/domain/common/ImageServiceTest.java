@@ -0,0 +1,214 @@
+package com.example.simpleshop.domain.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageServiceTest {
+
+    private final FakeS3Client s3Client = new FakeS3Client();
+    private final InMemoryImageBlobRegistry blobRegistry = new InMemoryImageBlobRegistry();
+    private final ImageService imageService = new ImageService(
+            new S3ImageStore(s3Client, "test-bucket", "ap-northeast-2"), blobRegistry, 8, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        imageService.shutdown();
+    }
+
+    @Test
+    void uploadAll_ShouldUploadInParallelUpToMaxConcurrency() throws Exception {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            String name = "image" + i + ".jpg";
+            files.add(file(name));
+            s3Client.latencyMillis.put(name, 200L);
+        }
+
+        List<String> urls = imageService.uploadAll(files);
+
+        // 실행 시간 대신 동시에 진행된 업로드 수로 확인 (최대 image.max-concurrency = 8)
+        assertThat(s3Client.maxInFlightPuts.get()).isGreaterThan(1).isLessThanOrEqualTo(8);
+        assertThat(s3Client.objects).hasSize(12);
+        assertThat(urls).hasSize(12);
+    }
+
+    @Test
+    void uploadAll_ShouldKeepRequestOrder() throws Exception {
+        // 앞쪽 파일일수록 늦게 끝나도록 설정
+        List<MultipartFile> files = List.of(file("a.jpg"), file("b.jpg"), file("c.jpg"));
+        s3Client.latencyMillis.put("a.jpg", 300L);
+        s3Client.latencyMillis.put("b.jpg", 150L);
+
+        List<String> urls = imageService.uploadAll(files);
+
+        assertThat(s3Client.objects.get(imageService.toKey(urls.get(0)))).isEqualTo("data-a.jpg".getBytes());
+        assertThat(s3Client.objects.get(imageService.toKey(urls.get(1)))).isEqualTo("data-b.jpg".getBytes());
+        assertThat(s3Client.objects.get(imageService.toKey(urls.get(2)))).isEqualTo("data-c.jpg".getBytes());
+    }
+
+    @Test
+    void uploadAll_ShouldCleanUpSucceededUploadsWhenOneFails() {
+        List<MultipartFile> files = List.of(file("ok1.jpg"), file("broken.jpg"), file("ok2.jpg"));
+        s3Client.latencyMillis.put("broken.jpg", 100L);
+        s3Client.failures.put("broken.jpg", true);
+
+        assertThatThrownBy(() -> imageService.uploadAll(files))
+                .isInstanceOf(SdkClientException.class);
+        assertThat(s3Client.objects).isEmpty();
+    }
+
+    @Test
+    void deleteAll_ShouldBatchUpToThousandKeysPerRequest() {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            String key = "image" + i + ".jpg";
+            s3Client.objects.put(key, new byte[0]);
+            urls.add(imageService.toUrl(key));
+        }
+
+        List<ImageDeleteFailure> failures = imageService.deleteAll(urls);
+
+        assertThat(failures).isEmpty();
+        assertThat(s3Client.objects).isEmpty();
+        assertThat(s3Client.deleteBatchSizes).containsExactlyInAnyOrder(1000, 1000, 500);
+    }
+
+    @Test
+    void deleteAll_ShouldReportPerKeyFailures() {
+        s3Client.objects.put("a.jpg", new byte[0]);
+        s3Client.objects.put("b.jpg", new byte[0]);
+        s3Client.undeletableKeys.add("b.jpg");
+
+        List<ImageDeleteFailure> failures = imageService.deleteAll(
+                List.of(imageService.toUrl("a.jpg"), imageService.toUrl("b.jpg")));
+
+        assertThat(failures).extracting(ImageDeleteFailure::key).containsExactly("b.jpg");
+        assertThat(s3Client.objects).containsOnlyKeys("b.jpg");
+    }
+
+    @Test
+    void toKey_ShouldRoundTripWithToUrl() {
+        String key = "0f8fad5b-d9cb-469f-a165-70867728950e_photo.jpg";
+
+        assertThat(imageService.toKey(imageService.toUrl(key))).isEqualTo(key);
+    }
+
+    @Test
+    void upload_ShouldUseContentHashAndExtensionAsKey() throws Exception {
+        String url = imageService.upload(file("../../etc/my photo.JPG"));
+
+        // sha256("data-../../etc/my photo.JPG") + 확장자
+        assertThat(imageService.toKey(url)).matches("[0-9a-f]{64}\\.jpg");
+    }
+
+    @Test
+    void upload_ShouldRejectNonImageTypes() {
+        assertThatThrownBy(() -> imageService.upload(
+                new MockMultipartFile("images", "x.html", "text/html", "<script>".getBytes())))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> imageService.upload("x.svg", "image/svg+xml", "<svg/>".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(s3Client.objects).isEmpty();
+    }
+
+    @Test
+    void upload_ShouldStoreAllowlistedContentType() {
+        String url = imageService.upload("image", "image/png; charset=binary", "png".getBytes());
+
+        assertThat(imageService.toKey(url)).endsWith(".png");
+        assertThat(ImageService.contentTypeOf(imageService.toKey(url))).isEqualTo("image/png");
+    }
+
+    @Test
+    void upload_ShouldSkipStoreWhenSameContentAlreadyUploaded() throws Exception {
+        String first = imageService.upload("a.jpg", "image/jpeg", "same".getBytes());
+        int requests = s3Client.requests.get();
+
+        String second = imageService.upload("b.jpg", "image/jpeg", "same".getBytes());
+
+        assertThat(second).isEqualTo(first);
+        assertThat(s3Client.requests.get()).isEqualTo(requests);
+        assertThat(s3Client.objects).hasSize(1);
+    }
+
+    @Test
+    void upload_ShouldReturnFirstStoredKeyForSameContentWithOtherExtension() {
+        String first = imageService.upload("a.jpg", "image/jpeg", "same".getBytes());
+
+        String second = imageService.upload("b.png", "image/png", "same".getBytes());
+
+        assertThat(second).isEqualTo(first);
+        assertThat(s3Client.objects).containsOnlyKeys(imageService.toKey(first));
+    }
+
+    @Test
+    void deleteAll_ShouldDeleteStoredKeyWhenRequestedWithOtherExtension() {
+        String url = imageService.upload("a.jpg", "image/jpeg", "same".getBytes());
+        String hash = imageService.toKey(url).substring(0, 64);
+
+        imageService.deleteAll(List.of(imageService.toUrl(hash + ".png")));
+
+        assertThat(s3Client.objects).isEmpty();
+        assertThat(blobRegistry.refCounts).isEmpty();
+    }
+
+    @Test
+    void deleteAll_ShouldKeepContentWhileOtherImagesReferenceIt() throws Exception {
+        String url = imageService.upload("a.jpg", "image/jpeg", "shared".getBytes());
+        imageService.retainAll(List.of(url));
+        imageService.retainAll(List.of(imageService.upload("b.jpg", "image/jpeg", "shared".getBytes())));
+
+        // 첫 번째 참조 해제 -> 아직 참조가 남아 있으므로 유지
+        imageService.releaseAll(List.of(url));
+        imageService.deleteAll(List.of(url));
+        assertThat(s3Client.objects).containsKey(imageService.toKey(url));
+
+        // 마지막 참조 해제 -> 삭제
+        imageService.releaseAll(List.of(url));
+        imageService.deleteAll(List.of(url));
+        assertThat(s3Client.objects).isEmpty();
+        assertThat(blobRegistry.refCounts).isEmpty();
+    }
+
+    @Test
+    void deleteAll_ShouldRejectReferencesToContentBeingDeleted() {
+        String url = imageService.upload("a.jpg", "image/jpeg", "deleting".getBytes());
+
+        // 오브젝트 삭제 직전에 같은 내용이 다시 업로드되어 참조되려 함
+        List<Throwable> retainErrors = new ArrayList<>();
+        s3Client.beforeDelete = () -> {
+            String again = imageService.upload("b.jpg", "image/jpeg", "deleting".getBytes());
+            try {
+                imageService.retainAll(List.of(again));
+            } catch (IllegalStateException e) {
+                retainErrors.add(e);
+            }
+        };
+        imageService.deleteAll(List.of(url));
+        s3Client.beforeDelete = () -> {
+        };
+
+        assertThat(retainErrors).hasSize(1);
+        assertThat(s3Client.objects).isEmpty();
+        assertThat(blobRegistry.refCounts).isEmpty();
+
+        // 삭제가 끝난 뒤에는 다시 저장되고 참조할 수 있음
+        String reuploaded = imageService.upload("c.jpg", "image/jpeg", "deleting".getBytes());
+        imageService.retainAll(List.of(reuploaded));
+        assertThat(s3Client.objects).containsKey(imageService.toKey(reuploaded));
+    }
+
+    private MockMultipartFile file(String name) {
+        return new MockMultipartFile("images", name, "image/jpeg", ("data-" + name).getBytes());
+    }
+}
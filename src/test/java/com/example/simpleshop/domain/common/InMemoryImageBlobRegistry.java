@@ -0,0 +1,78 @@
+package com.example.simpleshop.domain.common;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 참조 수 관리 (트랜잭션 없음)
+ */
+class InMemoryImageBlobRegistry implements ImageBlobRegistry {
+
+    final Map<String, Integer> refCounts = new ConcurrentHashMap<>();
+    final Map<String, String> storeKeys = new ConcurrentHashMap<>();
+    final Set<String> deleting = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public Optional<String> findStoreKey(String hash) {
+        return deleting.contains(hash) ? Optional.empty() : Optional.ofNullable(storeKeys.get(hash));
+    }
+
+    @Override
+    public synchronized String registerStored(String hash, String key, String contentType, long size) {
+        refCounts.putIfAbsent(hash, 0);
+        return storeKeys.computeIfAbsent(hash, h -> key);
+    }
+
+    @Override
+    public synchronized void retain(Collection<String> keys) {
+        for (String key : keys) {
+            String hash = ImageBlobService.hashOf(key);
+            if (hash != null && (deleting.contains(hash)
+                    || refCounts.computeIfPresent(hash, (h, count) -> count + 1) == null)) {
+                throw new IllegalStateException("이미지가 이미 삭제되었습니다.");
+            }
+        }
+    }
+
+    @Override
+    public void release(Collection<String> keys) {
+        for (String key : keys) {
+            String hash = ImageBlobService.hashOf(key);
+            if (hash != null) {
+                refCounts.computeIfPresent(hash, (h, count) -> Math.max(0, count - 1));
+            }
+        }
+    }
+
+    @Override
+    public synchronized List<String> claimDeletable(Collection<String> keys) {
+        Set<String> deletable = new LinkedHashSet<>();
+        for (String key : keys) {
+            String hash = ImageBlobService.hashOf(key);
+            if (hash == null || refCounts.getOrDefault(hash, 0) == 0) {
+                if (hash != null && storeKeys.containsKey(hash)) {
+                    deleting.add(hash);
+                    deletable.add(storeKeys.get(hash));
+                }
+                deletable.add(key);
+            }
+        }
+        return List.copyOf(deletable);
+    }
+
+    @Override
+    public synchronized void deleted(Collection<String> keys) {
+        for (String key : keys) {
+            String hash = ImageBlobService.hashOf(key);
+            if (hash != null && deleting.remove(hash)) {
+                refCounts.remove(hash);
+                storeKeys.remove(hash);
+            }
+        }
+    }
+}
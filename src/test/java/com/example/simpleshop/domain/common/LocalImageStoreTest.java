@@ -0,0 +1,46 @@
+package com.example.simpleshop.domain.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalImageStoreTest {
+
+    @TempDir
+    private Path root;
+
+    @Test
+    void putGetDelete_ShouldRoundTrip() throws Exception {
+        LocalImageStore store = new LocalImageStore(root.toString(), "/images/");
+        byte[] data = "image-bytes".getBytes();
+
+        store.put("a.jpg", "image/jpeg", new ByteArrayInputStream(data), data.length);
+
+        assertThat(store.get("a.jpg")).isEqualTo(data);
+        assertThat(store.toUrl("a.jpg")).isEqualTo("/images/a.jpg");
+        assertThat(store.toKey("/images/a.jpg")).isEqualTo("a.jpg");
+        // 임시 파일이 남지 않아야 함
+        try (var files = Files.list(root)) {
+            assertThat(files).containsExactly(root.resolve("a.jpg"));
+        }
+
+        assertThat(store.deleteAll(List.of("a.jpg", "missing.jpg"))).isEmpty();
+        assertThat(root.resolve("a.jpg")).doesNotExist();
+    }
+
+    @Test
+    void resolve_ShouldRejectKeysOutsideRoot() throws Exception {
+        LocalImageStore store = new LocalImageStore(root.toString(), "/images/");
+
+        assertThatThrownBy(() -> store.resolve("../secret.txt")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.resolve("sub/a.jpg")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> store.resolve(".upload-1.tmp")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.simpleshop.domain.product;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void next_ShouldHandleQuotesNewlinesAndBlankLines() throws Exception {
+        String csv = "name,price\r\n\"쉼표, \"\"따옴표\"\"\",10\n\n\"여러\n줄\",20\n,\nlast,5";
+
+        List<List<String>> records = new ArrayList<>();
+        try (CsvRecordReader reader = new CsvRecordReader(new StringReader(csv))) {
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+
+        assertThat(records).containsExactly(
+                List.of("name", "price"),
+                List.of("쉼표, \"따옴표\"", "10"),
+                List.of("여러\n줄", "20"),
+                List.of("", ""),
+                List.of("last", "5"));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.dto.product.ProductBulkItemResult;
+import com.example.simpleshop.dto.product.ProductBulkResponse;
+import com.example.simpleshop.dto.product.ProductBulkUpdateRequest;
+import com.example.simpleshop.dto.product.ProductRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "product.bulk.chunk-size=100"
+})
+class ProductBulkServiceTest {
+
+    @Autowired
+    private ProductBulkService productBulkService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void createAll_ShouldBatchInsertsAndReportPerItemResults() {
+        List<ProductRequest> requests = new ArrayList<>(IntStream.range(0, 300)
+                .mapToObj(i -> new ProductRequest("일괄 상품 " + i, "설명 " + i, 1000 + i))
+                .toList());
+        requests.set(10, new ProductRequest(" ", "이름 없음", 1000));
+        requests.set(20, new ProductRequest("가격 없음", null, null));
+
+        ProductBulkResponse response = productBulkService.createAll(requests);
+
+        assertThat(response.requested()).isEqualTo(300);
+        assertThat(response.succeeded()).isEqualTo(298);
+        assertThat(response.results()).extracting(ProductBulkItemResult::index)
+                .containsExactlyElementsOf(IntStream.range(0, 300).boxed().toList());
+        assertThat(response.results().get(10).success()).isFalse();
+        assertThat(response.results().get(20).error()).isNotBlank();
+        assertThat(productRepository.count()).isEqualTo(298);
+
+        // 298건 insert 가 50건 단위 배치로 실행됨
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(298);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(40);
+    }
+
+    @Test
+    void updateAll_ShouldUpdateExistingAndReportMissing() {
+        List<Long> ids = productBulkService.createAll(IntStream.range(0, 5)
+                        .mapToObj(i -> new ProductRequest("상품 " + i, null, 1000))
+                        .toList())
+                .results().stream()
+                .map(ProductBulkItemResult::id)
+                .toList();
+
+        List<ProductBulkUpdateRequest> requests = new ArrayList<>(ids.stream()
+                .map(id -> new ProductBulkUpdateRequest(id, "수정 " + id, "수정됨", 2000))
+                .toList());
+        requests.add(new ProductBulkUpdateRequest(Long.MAX_VALUE, "없는 상품", null, 1000));
+
+        ProductBulkResponse response = productBulkService.updateAll(requests);
+
+        assertThat(response.succeeded()).isEqualTo(5);
+        assertThat(response.results().get(5).error()).isEqualTo("존재하지 않는 상품입니다.");
+        assertThat(productRepository.findAllById(ids))
+                .extracting(Product::getPrice)
+                .containsOnly(2000);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.dto.product.ProductResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductCacheTest {
+
+    private final ProductCache productCache = new ProductCache(100, 600);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndRecordStats() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            productCache.get(1L, id -> {
+                loads.incrementAndGet();
+                return Optional.of(response(id, "상품"));
+            });
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(productCache.stats().hitCount()).isEqualTo(2);
+        assertThat(productCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void evictAfterCommit_ShouldKeepEntryWhenRolledBack() {
+        productCache.get(1L, id -> Optional.of(response(id, "상품")));
+
+        TransactionSynchronizationManager.initSynchronization();
+        productCache.evictAfterCommit(1L);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // 롤백: afterCommit 이 호출되지 않음
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(productCache.size()).isEqualTo(1);
+
+        // 커밋
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(productCache.size()).isZero();
+    }
+
+    @Test
+    void get_ShouldNotRepopulateStaleValueLoadedBeforeCommit() {
+        // 조회 도중 다른 트랜잭션의 커밋으로 무효화가 일어난 상황
+        Optional<ProductResponse> loaded = productCache.get(1L, id -> {
+            productCache.evict(id);
+            return Optional.of(response(id, "이전 이름"));
+        });
+
+        assertThat(loaded).isPresent();
+        assertThat(productCache.size()).isZero();
+    }
+
+    private ProductResponse response(Long id, String name) {
+        return ProductResponse.builder()
+                .id(id)
+                .name(name)
+                .price(1000)
+                .images(List.of())
+                .writerId(1L)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.simpleshop.domain.product;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCursorTest {
+
+    @Test
+    void encodeAndDecode_ShouldRoundTripForEachSort() {
+        ProductCursor price = new ProductCursor(15000, 42L);
+        ProductCursor latest = new ProductCursor(null, 42L);
+
+        assertThat(ProductCursor.decode(price.encode(), "priceAsc")).isEqualTo(price);
+        assertThat(ProductCursor.decode(price.encode(), "priceDesc")).isEqualTo(price);
+        assertThat(ProductCursor.decode(latest.encode(), "latest")).isEqualTo(latest);
+        // URL 에 그대로 넣을 수 있는 형식
+        assertThat(price.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedCursor() {
+        String latestCursor = new ProductCursor(null, 42L).encode();
+        String notNumber = Base64.getUrlEncoder().encodeToString("abc:1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ProductCursor.decode("%%%", "latest"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode(latestCursor, "priceAsc"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.decode(notNumber, "priceDesc"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 cursor 입니다.");
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.domain.user.UserRepository;
+import com.example.simpleshop.dto.product.ProductImageResponse;
+import com.example.simpleshop.dto.product.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ProductExportServiceTest {
+
+    private static final int PRODUCT_COUNT = 2500;
+
+    @Autowired
+    private ProductExportService productExportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        User writer = userRepository.findByEmail("alice@example.com").orElseThrow();
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = Product.builder()
+                    .name(i == 0 ? "쉼표, \"따옴표\" 상품" : "상품 " + i)
+                    .description("설명 " + i)
+                    .price(1000 + i)
+                    .writer(writer)
+                    .build();
+            // 짝수 상품만 이미지 2장 (역순 추가)
+            for (int order = i % 2 == 0 ? 1 : -1; order >= 0; order--) {
+                product.getImages().add(ProductImage.builder()
+                        .imageUrl("https://example.com/" + i + "_" + order + ".jpg")
+                        .imageOrder(order)
+                        .product(product)
+                        .build());
+            }
+            products.add(product);
+        }
+        productRepository.saveAll(products);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void exportNdjson_ShouldWriteOneProductPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = productExportService.exportNdjson(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(PRODUCT_COUNT);
+        assertThat(lines).hasSize(PRODUCT_COUNT);
+
+        List<ProductResponse> products = new ArrayList<>();
+        for (String line : lines) {
+            products.add(objectMapper.readValue(line, ProductResponse.class));
+        }
+        assertThat(products).extracting(ProductResponse::id).isSorted().doesNotHaveDuplicates();
+        assertThat(products.get(0).name()).isEqualTo("쉼표, \"따옴표\" 상품");
+        assertThat(products.get(0).images()).extracting(ProductImageResponse::order).containsExactly(0, 1);
+        assertThat(products.get(1).images()).isEmpty();
+    }
+
+    @Test
+    void exportCsv_ShouldEscapeValuesAndJoinImages() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        productExportService.exportCsv(out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(PRODUCT_COUNT + 1);
+        assertThat(lines[0]).isEqualTo("id,name,description,price,writerId,version,imageUrls");
+        assertThat(lines[1])
+                .contains(",\"쉼표, \"\"따옴표\"\" 상품\",")
+                .endsWith(",https://example.com/0_0.jpg|https://example.com/0_1.jpg");
+        assertThat(lines[2]).endsWith(",");
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.dto.product.ProductImportResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "product.import.batch-size=100",
+        "product.import.queue-capacity=2"
+})
+class ProductImportServiceTest {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductImportJobRepository productImportJobRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        productImportJobRepository.deleteAll();
+    }
+
+    @Test
+    void start_ShouldImportInChunksAndCountFailures() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "products.csv", "text/csv",
+                csv(1050, 7).getBytes(StandardCharsets.UTF_8));
+
+        ProductImportResponse response = awaitDone(productImportService.start(file).id());
+
+        assertThat(response.status()).isEqualTo("COMPLETED");
+        assertThat(response.committedRows()).isEqualTo(1050);
+        assertThat(response.failedRows()).isEqualTo(1050 / 7);
+        assertThat(response.succeededRows()).isEqualTo(1050 - response.failedRows());
+        assertThat(response.lastError()).contains("가격");
+        assertThat(productRepository.count()).isEqualTo(response.succeededRows());
+    }
+
+    @Test
+    void resume_ShouldContinueAfterLastCommittedChunk() throws Exception {
+        Path file = tempDir.resolve("resume.csv");
+        Files.writeString(file, csv(250, 0));
+
+        // 200행까지 커밋된 뒤 중단된 작업
+        ProductImportJob job = ProductImportJob.start("resume.csv", file.toString(), 1L);
+        job.chunkCommitted(200, 200, 0, null);
+        job.fail("서버 재시작");
+        Long jobId = productImportJobRepository.save(job).getId();
+
+        ProductImportResponse response = productImportService.resume(jobId);
+        response = awaitDone(response.id());
+
+        assertThat(response.status()).isEqualTo("COMPLETED");
+        assertThat(response.committedRows()).isEqualTo(250);
+        assertThat(productRepository.count()).isEqualTo(50);
+        assertThat(productRepository.findAll())
+                .extracting(Product::getName)
+                .allMatch(name -> Integer.parseInt(name.substring("상품 ".length())) > 200);
+    }
+
+    @Test
+    void find_ShouldHideJobsOfOtherUsers() {
+        Long jobId = productImportJobRepository.save(ProductImportJob.start("other.csv", "other.csv", 2L)).getId();
+
+        assertThatThrownBy(() -> productImportService.find(jobId))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> productImportService.resume(jobId))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void checkImageUrl_ShouldRejectInternalAddresses() {
+        for (String url : List.of(
+                "http://localhost:8080/actuator/env",
+                "http://127.0.0.1/a.jpg",
+                "http://169.254.169.254/latest/meta-data/",
+                "http://10.0.0.5/a.jpg",
+                "http://192.168.0.10/a.jpg",
+                "http://100.64.0.1/a.jpg",
+                "http://0.0.0.0/a.jpg",
+                "http://[::1]/a.jpg",
+                "http://[fd00::1]/a.jpg",
+                "file:///etc/passwd")) {
+            assertThatThrownBy(() -> ProductImportService.checkImageUrl(URI.create(url), Set.of()))
+                    .as(url)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void checkImageUrl_ShouldOnlyAllowConfiguredHosts() {
+        ProductImportService.checkImageUrl(URI.create("https://93.184.215.14/a.jpg"), Set.of());
+        ProductImportService.checkImageUrl(URI.create("https://93.184.215.14/a.jpg"), Set.of("93.184.215.14"));
+
+        assertThatThrownBy(() -> ProductImportService.checkImageUrl(
+                URI.create("https://93.184.215.15/a.jpg"), Set.of("93.184.215.14")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("허용되지 않은");
+    }
+
+    // failEvery 번째 행마다 가격을 잘못 넣음 (0 이면 모두 정상)
+    private static String csv(int rows, int failEvery) {
+        StringBuilder csv = new StringBuilder("name,description,price,imageUrls\n");
+        for (int i = 1; i <= rows; i++) {
+            String price = failEvery > 0 && i % failEvery == 0 ? "abc" : String.valueOf(1000 + i);
+            csv.append("상품 ").append(i).append(",\"설명, ").append(i).append("\",").append(price).append(",\n");
+        }
+        return csv.toString();
+    }
+
+    private ProductImportResponse awaitDone(Long jobId) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            ProductImportResponse response = productImportService.find(jobId);
+            if (!response.active()) {
+                return response;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("가져오기 작업이 끝나지 않았습니다.");
+    }
+}
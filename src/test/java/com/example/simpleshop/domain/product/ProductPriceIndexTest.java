@@ -0,0 +1,120 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.dto.product.PriceBucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductPriceIndexTest {
+
+    private ProductPriceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductPriceIndex(null);
+        index.put(1L, 15000);
+        index.put(2L, 20000);
+        index.put(3L, 15000);
+        index.put(4L, 42000);
+        index.put(5L, 9000);
+    }
+
+    @Test
+    void rebuild_ShouldKeepChangesAppliedDuringScan() {
+        ProductRepository repository = mock(ProductRepository.class);
+        ProductPriceIndex rebuilt = new ProductPriceIndex(repository);
+        when(repository.findSnapshotsAfter(anyLong(), any())).thenAnswer(invocation -> {
+            // 스캔이 읽은 뒤에 커밋된 변경이 조회로 반영됨
+            rebuilt.put(1L, 30000);
+            rebuilt.put(3L, 5000);
+            rebuilt.remove(2L);
+            rebuilt.count(null, null);
+            return List.of(
+                    new ProductSnapshot(1L, "a", null, 10000),
+                    new ProductSnapshot(2L, "b", null, 20000));
+        });
+
+        rebuilt.rebuild();
+
+        assertThat(rebuilt.findIds(null, null, 0, 10, true)).containsExactly(3L, 1L);
+        assertThat(rebuilt.count(30000, 30000)).isEqualTo(1);
+    }
+
+    @Test
+    void count_ShouldUseInclusiveBounds() {
+        assertThat(index.count(null, null)).isEqualTo(5);
+        assertThat(index.count(15000, 20000)).isEqualTo(3);
+        assertThat(index.count(20001, null)).isEqualTo(1);
+        assertThat(index.count(null, 8999)).isZero();
+    }
+
+    @Test
+    void findIds_ShouldFollowPriceThenIdOrder() {
+        assertThat(index.findIds(10000, null, 0, 10, true)).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(index.findIds(10000, null, 0, 10, false)).containsExactly(4L, 2L, 3L, 1L);
+        assertThat(index.findIds(null, null, 1, 2, true)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void histogram_ShouldCountPerBucket() {
+        assertThat(index.histogram(null, null, 10000)).containsExactly(
+                new PriceBucket(0, 9999, 1),
+                new PriceBucket(10000, 19999, 2),
+                new PriceBucket(20000, 29999, 1),
+                new PriceBucket(30000, 39999, 0),
+                new PriceBucket(40000, 49999, 1));
+        assertThat(index.histogram(16000, 30000, 10000)).containsExactly(new PriceBucket(20000, 29999, 1));
+    }
+
+    @Test
+    void histogram_ShouldWidenBucketsWhenTooMany() {
+        assertThat(index.histogram(null, null, 100)).hasSizeLessThanOrEqualTo(100)
+                .extracting(PriceBucket::count)
+                .containsOnly(0L, 1L, 2L)
+                .satisfies(counts -> assertThat(counts.stream().mapToLong(Long::longValue).sum()).isEqualTo(5));
+    }
+
+    @Test
+    void putAndRemove_ShouldKeepIndexConsistent() {
+        index.put(1L, 50000);
+        index.remove(2L);
+        assertThat(index.findIds(null, null, 0, 10, true)).containsExactly(5L, 3L, 4L, 1L);
+
+        // 무작위 변경 후에도 단순 구현과 결과가 같아야 함
+        Random random = new Random(42);
+        Map<Long, Integer> expected = new HashMap<>(Map.of(1L, 50000, 3L, 15000, 4L, 42000, 5L, 9000));
+        for (int i = 0; i < 5000; i++) {
+            long id = 1 + random.nextInt(2000);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                expected.remove(id);
+            } else {
+                int price = random.nextInt(100) * 1000;
+                index.put(id, price);
+                expected.put(id, price);
+            }
+            if (i % 500 == 0) {
+                assertThat(index.count(null, null)).isEqualTo(expected.size());
+            }
+        }
+
+        List<Long> sorted = new ArrayList<>(expected.keySet());
+        sorted.sort((a, b) -> !expected.get(a).equals(expected.get(b))
+                ? Integer.compare(expected.get(a), expected.get(b))
+                : Long.compare(a, b));
+        assertThat(index.findIds(null, null, 0, sorted.size(), true)).isEqualTo(sorted);
+        assertThat(index.count(20000, 29000)).isEqualTo(
+                expected.values().stream().filter(price -> price >= 20000 && price <= 29000).count());
+    }
+}
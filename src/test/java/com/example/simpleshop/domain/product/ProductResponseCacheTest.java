@@ -0,0 +1,82 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.dto.product.ProductResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductResponseCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ProductCache productCache = new ProductCache(100, 600);
+    private final ProductResponseCache responseCache = new ProductResponseCache(objectMapper, productCache, 10_000, 200);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_ShouldSerializeOncePerVersion() throws Exception {
+        ProductResponseCache.SerializedProduct first = responseCache.get(1L, 3L, () -> load(1L, "상품", 3L));
+        ProductResponseCache.SerializedProduct second = responseCache.get(1L, 3L, () -> load(1L, "상품", 3L));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.json()).isSameAs(first.json());
+        JsonNode body = objectMapper.readTree(first.json());
+        assertThat(body.get("success").asBoolean()).isTrue();
+        assertThat(body.at("/data/name").asText()).isEqualTo("상품");
+
+        // 새 version 이 요청되면 다시 직렬화
+        responseCache.get(1L, 4L, () -> load(1L, "수정된 상품", 4L));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_ShouldKeepGzipCopyOnlyForLargeResponses() throws Exception {
+        ProductResponseCache.SerializedProduct small = responseCache.get(1L, 1L, () -> load(1L, "작은", 1L));
+        ProductResponseCache.SerializedProduct large = responseCache.get(2L, 1L, () -> load(2L, "큰".repeat(500), 1L));
+
+        assertThat(small.gzip()).isNull();
+        assertThat(large.gzip()).isNotNull().hasSizeLessThan(large.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(large.json());
+        }
+    }
+
+    @Test
+    void productCacheEviction_ShouldEvictSerializedResponse() {
+        responseCache.get(1L, 1L, () -> load(1L, "상품", 1L));
+
+        // 같은 version 이라도 쓰기 경로(예: 축소본 생성)에서 무효화되면 다시 만든다
+        productCache.evict(1L);
+        responseCache.get(1L, 1L, () -> load(1L, "상품", 1L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void cache_ShouldBeBoundedByTotalBytes() {
+        for (long id = 0; id < 200; id++) {
+            long productId = id;
+            responseCache.get(productId, 1L, () -> load(productId, "상품 " + productId, 1L));
+        }
+
+        assertThat(responseCache.weightedSize()).isLessThanOrEqualTo(10_000);
+    }
+
+    private ProductResponse load(Long id, String name, long version) {
+        loads.incrementAndGet();
+        return ProductResponse.builder()
+                .id(id)
+                .name(name)
+                .price(1000)
+                .images(List.of())
+                .writerId(1L)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.simpleshop.domain.product;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex(null);
+        index.index(new ProductSnapshot(1L, "귀여운 고양이 인형", "말랑한 촉감의 고양이인형입니다.", 15000));
+        index.index(new ProductSnapshot(2L, "강아지 쿠션", "고양이도 좋아하는 쿠션", 20000));
+        index.index(new ProductSnapshot(3L, "Wireless Mouse", "Silent click mouse for office", 30000));
+    }
+
+    @Test
+    void search_ShouldMatchKoreanRegardlessOfSpacing() {
+        assertThat(index.search("고양이인형", 10)).containsExactly(1L);
+        assertThat(index.search("고양이 인형", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesFirst() {
+        assertThat(index.search("고양이", 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void search_ShouldMatchSingleSyllableKoreanQuery() {
+        index.index(new ProductSnapshot(4L, "곰인형", "포근한 인형", 18000));
+
+        assertThat(index.search("곰", 10)).containsExactly(4L);
+        assertThat(index.search("인형", 10)).containsExactlyInAnyOrder(1L, 4L);
+    }
+
+    @Test
+    void search_ShouldMatchEnglishCaseInsensitively() {
+        assertThat(index.search("MOUSE", 10)).containsExactly(3L);
+        assertThat(index.search("mouse keyboard", 10)).isEmpty();
+    }
+
+    @Test
+    void indexAndRemove_ShouldUpdateIncrementally() {
+        index.index(new ProductSnapshot(3L, "Wireless Keyboard", "Silent keys", 40000));
+        assertThat(index.search("mouse", 10)).isEmpty();
+        assertThat(index.search("keyboard", 10)).containsExactly(3L);
+
+        index.remove(1L);
+        assertThat(index.search("고양이", 10)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
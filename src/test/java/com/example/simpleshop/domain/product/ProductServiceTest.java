@@ -0,0 +1,137 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.domain.user.UserRepository;
+import com.example.simpleshop.dto.product.ProductImagePatchRequest;
+import com.example.simpleshop.dto.product.ProductImageResponse;
+import com.example.simpleshop.dto.product.ProductResponse;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductServiceTest {
+
+    private static final int PRODUCT_COUNT = 30;
+    private static final int IMAGES_PER_PRODUCT = 3;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User writer = userRepository.findByEmail("alice@example.com").orElseThrow();
+
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            Product product = Product.builder()
+                    .name("상품 " + i)
+                    .description("설명 " + i)
+                    .price(1000 + i)
+                    .writer(writer)
+                    .build();
+
+            // 역순으로 추가해도 조회 결과는 imageOrder 순서여야 함
+            for (int order = IMAGES_PER_PRODUCT - 1; order >= 0; order--) {
+                product.getImages().add(ProductImage.builder()
+                        .imageUrl("https://example.com/" + i + "_" + order + ".jpg")
+                        .imageOrder(order)
+                        .product(product)
+                        .build());
+            }
+            productRepository.save(product);
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void findAll_ShouldUseConstantNumberOfStatementsPerPage() {
+        for (int size : new int[]{5, 10, 20}) {
+            statistics.clear();
+
+            Page<ProductResponse> page = productService.findAll(PageRequest.of(1, size), "priceDesc");
+
+            assertThat(page.getContent()).hasSize(size);
+            // id 페이지 + count + 이미지 일괄 조회
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        }
+    }
+
+    @Test
+    void findAll_ShouldKeepSortAndImageOrder() {
+        Page<ProductResponse> page = productService.findAll(PageRequest.of(0, 10), "priceAsc");
+
+        assertThat(page.getTotalElements()).isEqualTo(PRODUCT_COUNT);
+        assertThat(page.getContent())
+                .extracting(ProductResponse::price)
+                .isSorted();
+
+        for (ProductResponse product : page.getContent()) {
+            assertThat(product.writerId()).isNotNull();
+            assertThat(product.images())
+                    .hasSize(IMAGES_PER_PRODUCT)
+                    .extracting(ProductImageResponse::order)
+                    .containsExactly(0, 1, 2);
+        }
+    }
+
+    @Test
+    void patchImages_ShouldRemoveAndReorderWithoutTouchingOtherImages() throws Exception {
+        Product product = productRepository.findAll().get(0);
+        List<Long> ids = productService.findById(product.getId()).images().stream()
+                .map(ProductImageResponse::id)
+                .toList();
+
+        // 가운데 이미지 삭제 + 남은 두 개 순서 뒤집기
+        List<ProductImageResponse> images = productService.patchImages(product.getId(),
+                new ProductImagePatchRequest(List.of(ids.get(1)), List.of(ids.get(2), ids.get(0))), List.of());
+
+        assertThat(images).extracting(ProductImageResponse::id).containsExactly(ids.get(2), ids.get(0));
+        assertThat(images).extracting(ProductImageResponse::order).containsExactly(0, 1);
+
+        Product reloaded = productRepository.findWithImagesById(product.getId()).orElseThrow();
+        assertThat(reloaded.getImages())
+                .extracting(ProductImage::getId, ProductImage::getImageOrder)
+                .containsExactly(tuple(ids.get(2), 0), tuple(ids.get(0), 1));
+    }
+
+    @Test
+    void patchImages_ShouldRejectOrderThatDoesNotCoverRemainingImages() {
+        Product product = productRepository.findAll().get(0);
+        Long firstId = productService.findById(product.getId()).images().get(0).id();
+
+        assertThatThrownBy(() -> productService.patchImages(product.getId(),
+                new ProductImagePatchRequest(null, List.of(firstId)), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.simpleshop.domain.product;
+
+import com.example.simpleshop.domain.user.User;
+import com.example.simpleshop.domain.user.UserRepository;
+import com.example.simpleshop.dto.product.ProductImagePatchRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private Long productId;
+    private Long writerId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        writerId = userRepository.findByEmail("alice@example.com").orElseThrow().getId();
+        productId = productRepository.save(productWithImages("캐시 상품", 3)).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteById(productId);
+    }
+
+    @Test
+    void findById_ShouldNotHitDatabaseAfterFirstLoad() {
+        loadProductWithImages(); // 캐시 적재 (이미 적재되어 있을 수도 있음)
+        statistics.clear();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(loadProductWithImages()).isEqualTo(3);
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("product").getHitCount()).isEqualTo(5);
+        assertThat(statistics.getDomainDataRegionStatistics("product-images").getHitCount()).isEqualTo(5);
+        assertThat(statistics.getDomainDataRegionStatistics("product-image").getHitCount()).isEqualTo(15);
+    }
+
+    @Test
+    void userFindById_ShouldNotHitDatabaseAfterFirstLoad() {
+        transactionTemplate.execute(status -> userRepository.findById(writerId).orElseThrow());
+        statistics.clear();
+
+        for (int i = 0; i < 5; i++) {
+            transactionTemplate.execute(status -> userRepository.findById(writerId).orElseThrow());
+        }
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("user").getHitCount()).isEqualTo(5);
+    }
+
+    @Test
+    void update_ShouldRefreshCachedEntity() {
+        loadProductWithImages();
+
+        transactionTemplate.executeWithoutResult(status ->
+                productRepository.findById(productId).orElseThrow().update("변경된 이름", "설명", 2000));
+
+        String name = transactionTemplate.execute(status ->
+                productRepository.findById(productId).orElseThrow().getName());
+        assertThat(name).isEqualTo("변경된 이름");
+    }
+
+    @Test
+    void patchImagesReorder_ShouldKeepOtherProductsImagesCached() throws Exception {
+        Long otherId = productRepository.save(productWithImages("다른 상품", 2)).getId();
+        try {
+            loadProductWithImages();
+            transactionTemplate.execute(status -> productRepository.findById(otherId).orElseThrow().getImages().size());
+
+            List<Long> reversed = transactionTemplate.execute(status ->
+                    productRepository.findById(productId).orElseThrow().getImages().stream()
+                            .sorted(Comparator.comparingInt(ProductImage::getImageOrder).reversed())
+                            .map(ProductImage::getId)
+                            .toList());
+            productService.patchImages(productId, new ProductImagePatchRequest(null, reversed), List.of());
+
+            // 순서 변경은 해당 상품의 캐시 항목만 갱신 -> 다른 상품은 DB 조회 없이 캐시에서
+            statistics.clear();
+            transactionTemplate.execute(status -> productRepository.findById(otherId).orElseThrow().getImages().size());
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+
+            List<Long> ordered = transactionTemplate.execute(status ->
+                    productRepository.findById(productId).orElseThrow().getImages().stream()
+                            .sorted(Comparator.comparingInt(ProductImage::getImageOrder))
+                            .map(ProductImage::getId)
+                            .toList());
+            assertThat(ordered).isEqualTo(reversed);
+        } finally {
+            productRepository.deleteById(otherId);
+        }
+    }
+
+    // 트랜잭션마다 새 영속성 컨텍스트 -> 1차 캐시가 아닌 2차 캐시에서 조회
+    private int loadProductWithImages() {
+        return transactionTemplate.execute(status ->
+                productRepository.findById(productId).orElseThrow().getImages().size());
+    }
+
+    private Product productWithImages(String name, int imageCount) {
+        User writer = userRepository.findById(writerId).orElseThrow();
+        Product product = Product.builder()
+                .name(name)
+                .description("설명")
+                .price(1000)
+                .writer(writer)
+                .build();
+        for (int order = 0; order < imageCount; order++) {
+            product.getImages().add(ProductImage.builder()
+                    .imageUrl("https://example.com/" + name.hashCode() + "_" + order + ".jpg")
+                    .imageOrder(order)
+                    .product(product)
+                    .build());
+        }
+        return product;
+    }
+}